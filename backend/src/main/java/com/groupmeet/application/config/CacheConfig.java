@@ -2,8 +2,16 @@ package com.groupmeet.application.config;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.groupmeet.application.dto.MeetingDto;
+import com.groupmeet.application.service.MeetingDetailCache;
+import com.groupmeet.application.service.MeetingMembershipIndex;
+import com.groupmeet.application.service.MeetingSearchCacheKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
 
 import java.util.concurrent.TimeUnit;
 
@@ -16,4 +24,56 @@ public class CacheConfig {
                 .expireAfterWrite(2, TimeUnit.MINUTES)
                 .build();
     }
-}
\ No newline at end of file
+
+    @Bean("meetingSearchResultCache")
+    public Cache<MeetingSearchCacheKey, Page<MeetingDto>> meetingSearchResultCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.search.cache.max-size:500}") long maxSize,
+            @Value("${app.search.cache.ttl-seconds:60}") long ttlSeconds) {
+        Cache<MeetingSearchCacheKey, Page<MeetingDto>> cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        return GuavaCacheMetrics.monitor(meterRegistry, cache, "meetingSearchResults");
+    }
+
+    @Bean("idempotencyResponseCache")
+    public Cache<String, IdempotencyFilter.CachedResponse> idempotencyResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.idempotency.cache.max-size:10000}") long maxSize,
+            @Value("${app.idempotency.cache.ttl-minutes:10}") long ttlMinutes) {
+        Cache<String, IdempotencyFilter.CachedResponse> cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        return GuavaCacheMetrics.monitor(meterRegistry, cache, "idempotencyResponses");
+    }
+
+    @Bean("meetingDetailCache")
+    public Cache<Long, MeetingDetailCache.CachedMeetingDetail> meetingDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.meetings.detail-cache.max-size:5000}") long maxSize,
+            @Value("${app.meetings.detail-cache.ttl-minutes:5}") long ttlMinutes) {
+        Cache<Long, MeetingDetailCache.CachedMeetingDetail> cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        return GuavaCacheMetrics.monitor(meterRegistry, cache, "meetingDetails");
+    }
+
+    @Bean("meetingMembershipIndexCache")
+    public Cache<String, MeetingMembershipIndex.UserMemberships> meetingMembershipIndexCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.meetings.membership-index.max-size:10000}") long maxSize,
+            @Value("${app.meetings.membership-index.ttl-minutes:30}") long ttlMinutes) {
+        Cache<String, MeetingMembershipIndex.UserMemberships> cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        return GuavaCacheMetrics.monitor(meterRegistry, cache, "meetingMemberships");
+    }
+}
@@ -13,6 +13,8 @@ import com.groupmeet.application.repository.LocationRepository;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class DataInitializer implements CommandLineRunner {
@@ -37,6 +39,23 @@ public class DataInitializer implements CommandLineRunner {
             "Stuttgart", "Düsseldorf", "Dortmund", "Essen", "Leipzig", "Dresden",
             "Hannover", "Nürnberg");
 
+    // Latitude and longitude of the city centers, used for proximity search
+    public static final Map<String, double[]> PREDEFINED_LOCATION_COORDINATES = Map.ofEntries(
+            Map.entry("Berlin", new double[] { 52.5200, 13.4050 }),
+            Map.entry("Hamburg", new double[] { 53.5511, 9.9937 }),
+            Map.entry("Bremen", new double[] { 53.0793, 8.8017 }),
+            Map.entry("München", new double[] { 48.1351, 11.5820 }),
+            Map.entry("Köln", new double[] { 50.9375, 6.9603 }),
+            Map.entry("Frankfurt am Main", new double[] { 50.1109, 8.6821 }),
+            Map.entry("Stuttgart", new double[] { 48.7758, 9.1829 }),
+            Map.entry("Düsseldorf", new double[] { 51.2277, 6.7735 }),
+            Map.entry("Dortmund", new double[] { 51.5136, 7.4653 }),
+            Map.entry("Essen", new double[] { 51.4556, 7.0116 }),
+            Map.entry("Leipzig", new double[] { 51.3397, 12.3731 }),
+            Map.entry("Dresden", new double[] { 51.0504, 13.7373 }),
+            Map.entry("Hannover", new double[] { 52.3759, 9.7320 }),
+            Map.entry("Nürnberg", new double[] { 49.4521, 11.0767 }));
+
     @Override
     @Transactional
     public void run(String... args) throws Exception {
@@ -99,10 +118,19 @@ public class DataInitializer implements CommandLineRunner {
                 logger.warn("Skipping null or empty location name in PREDEFINED_LOCATIONS.");
                 continue;
             }
-            if (locationRepository.findByNameIgnoreCase(locationName.trim()).isEmpty()) {
-                locationRepository.save(new Location(locationName.trim()));
+            double[] coordinates = PREDEFINED_LOCATION_COORDINATES.get(locationName.trim());
+            Optional<Location> existingLocation = locationRepository.findByNameIgnoreCase(locationName.trim());
+            if (existingLocation.isEmpty()) {
+                locationRepository.save(coordinates != null
+                        ? new Location(locationName.trim(), coordinates[0], coordinates[1])
+                        : new Location(locationName.trim()));
                 addedThisRun++;
                 logger.debug("Saved new location: {}", locationName.trim());
+            } else if (coordinates != null && existingLocation.get().getLatitude() == null) {
+                existingLocation.get().setLatitude(coordinates[0]);
+                existingLocation.get().setLongitude(coordinates[1]);
+                locationRepository.save(existingLocation.get());
+                logger.debug("Added coordinates to location: {}", locationName.trim());
             }
         }
 
@@ -0,0 +1,252 @@
+package com.groupmeet.application.config;
+
+import com.google.common.cache.Cache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+
+/**
+ * Answers retried meeting and friendship mutations that carry the same Idempotency-Key header
+ * with the response of the first attempt, without running the request again. Responses are kept
+ * per user, method and path in a bounded cache; server errors are not kept so the client can retry.
+ * Each response is stored with a hash of its request, and a key reused for a different query
+ * string or body is rejected with 422 instead of replaying a response to another request.
+ * Bodies are buffered in memory for the hash, so bodies above a configured size are rejected with 413.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> MUTATING_METHODS = Set.of(
+            HttpMethod.POST.name(), HttpMethod.PUT.name(), HttpMethod.DELETE.name());
+    private static final String[] IDEMPOTENT_PATHS = { "/api/meetings/", "/api/friends/" };
+
+    // Marks a key whose first request is still running
+    private static final CachedResponse IN_FLIGHT = new CachedResponse(new byte[0], 0, null, new byte[0]);
+
+    @Autowired
+    @Qualifier("idempotencyResponseCache")
+    private Cache<String, CachedResponse> idempotencyResponseCache;
+
+    @Value("${app.idempotency.max-body-bytes:65536}")
+    private int maxBodyBytes;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!MUTATING_METHODS.contains(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI() + "/";
+        for (String idempotentPath : IDEMPOTENT_PATHS) {
+            if (path.startsWith(idempotentPath)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key muss zwischen 1 und " + MAX_KEY_LENGTH + " Zeichen lang sein.");
+            return;
+        }
+
+        // The body is read here to hash it, so the rest of the chain reads the buffered copy. At most one
+        // byte more than allowed is read, so an oversized body without Content-Length is still refused.
+        byte[] body = request.getContentLengthLong() <= maxBodyBytes
+                ? request.getInputStream().readNBytes(maxBodyBytes + 1)
+                : null;
+        if (body == null || body.length > maxBodyBytes) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Anfragen mit Idempotency-Key dürfen höchstens " + maxBodyBytes + " Bytes enthalten.");
+            return;
+        }
+        HttpServletRequest bufferedRequest = new BufferedBodyRequest(request, body);
+        byte[] requestHash = hash(request.getQueryString(), body);
+
+        String cacheKey = authentication.getName() + ":" + request.getMethod() + " " + request.getRequestURI()
+                + ":" + idempotencyKey;
+        CachedResponse previous = idempotencyResponseCache.asMap().putIfAbsent(cacheKey, IN_FLIGHT);
+        if (previous == IN_FLIGHT) {
+            writeError(response, HttpStatus.CONFLICT,
+                    "Eine Anfrage mit diesem Idempotency-Key wird bereits bearbeitet.");
+            return;
+        }
+        if (previous != null) {
+            if (!MessageDigest.isEqual(previous.requestHash, requestHash)) {
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        "Dieser Idempotency-Key wurde bereits für eine andere Anfrage verwendet.");
+                return;
+            }
+            logger.debug("Replaying response for {} {} of user {}.", request.getMethod(), request.getRequestURI(),
+                    authentication.getName());
+            previous.writeTo(response);
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(bufferedRequest, responseWrapper);
+            completed = true;
+        } finally {
+            if (completed && responseWrapper.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                idempotencyResponseCache.put(cacheKey, new CachedResponse(requestHash, responseWrapper.getStatus(),
+                        responseWrapper.getContentType(), responseWrapper.getContentAsByteArray()));
+            } else {
+                idempotencyResponseCache.asMap().remove(cacheKey, IN_FLIGHT);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private static void writeError(HttpServletResponse response, HttpStatus status, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"message\":\"" + message + "\"}");
+    }
+
+    private static byte[] hash(String queryString, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (queryString != null) {
+                digest.update(queryString.getBytes(StandardCharsets.UTF_8));
+            }
+            // Separates the query string from the body
+            digest.update((byte) 0);
+            return digest.digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public static class CachedResponse {
+        private final byte[] requestHash;
+        private final int status;
+        private final String contentType;
+        private final byte[] body;
+
+        CachedResponse(byte[] requestHash, int status, String contentType, byte[] body) {
+            this.requestHash = requestHash;
+            this.status = status;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(status);
+            response.setHeader(REPLAYED_HEADER, "true");
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is already in memory, so it is available at once and never blocks
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.groupmeet.application.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Moves memberships from the former meeting_participants and meeting_blocked_participants tables
+ * into meeting_participations. The old tables are dropped in the same transaction, so the migration
+ * runs once and their foreign keys no longer block the set-based deletes of meetings and users.
+ * Participations and archived participants without the copied meeting date get it from their meeting.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MeetingParticipationMigration implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeetingParticipationMigration.class);
+
+    private static final String LEGACY_PARTICIPANTS_TABLE = "meeting_participants";
+    private static final String LEGACY_BLOCKED_TABLE = "meeting_blocked_participants";
+    // Left behind by the first version of this migration, which only renamed the old tables
+    private static final String RENAMED_SUFFIX = "_migrated";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        // A block replaces the membership, so blocked users are migrated first
+        if (tableExists(LEGACY_BLOCKED_TABLE)) {
+            int blocked = jdbcTemplate.update("INSERT INTO meeting_participations "
+                    + "(meeting_id, user_id, status, role, joined_at, blocker_id, blocked_at) "
+                    + "SELECT b.meeting_id, b.user_id, 'BLOCKED', 'PARTICIPANT', b.blocked_at, b.blocker_id, b.blocked_at "
+                    + "FROM " + LEGACY_BLOCKED_TABLE + " b WHERE NOT EXISTS (SELECT 1 FROM meeting_participations p "
+                    + "WHERE p.meeting_id = b.meeting_id AND p.user_id = b.user_id)");
+            jdbcTemplate.execute("DROP TABLE " + LEGACY_BLOCKED_TABLE);
+            logger.info("Migrated {} blocked meeting participants.", blocked);
+        }
+
+        if (tableExists(LEGACY_PARTICIPANTS_TABLE)) {
+            int active = jdbcTemplate.update("INSERT INTO meeting_participations "
+                    + "(meeting_id, user_id, status, role, joined_at) "
+                    + "SELECT mp.meeting_id, mp.user_id, 'ACTIVE', "
+                    + "CASE WHEN m.creator_id = mp.user_id THEN 'ORGANIZER' ELSE 'PARTICIPANT' END, m.created_at "
+                    + "FROM " + LEGACY_PARTICIPANTS_TABLE + " mp JOIN meetings m ON m.id = mp.meeting_id "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM meeting_participations p "
+                    + "WHERE p.meeting_id = mp.meeting_id AND p.user_id = mp.user_id)");
+            jdbcTemplate.execute("DROP TABLE " + LEGACY_PARTICIPANTS_TABLE);
+            logger.info("Migrated {} active meeting participants.", active);
+        }
+
+        for (String renamedTable : List.of(LEGACY_BLOCKED_TABLE + RENAMED_SUFFIX,
+                LEGACY_PARTICIPANTS_TABLE + RENAMED_SUFFIX)) {
+            if (tableExists(renamedTable)) {
+                jdbcTemplate.execute("DROP TABLE " + renamedTable);
+                logger.info("Dropped the migrated legacy table {}.", renamedTable);
+            }
+        }
+
+        int dated = jdbcTemplate.update("UPDATE meeting_participations mp SET meeting_date_time = "
+                + "(SELECT m.date_time FROM meetings m WHERE m.id = mp.meeting_id) WHERE mp.meeting_date_time IS NULL");
+        if (dated > 0) {
+            logger.info("Copied the meeting date to {} meeting participations.", dated);
+        }
+
+        int archivedDated = jdbcTemplate.update("UPDATE archived_meeting_participants ap SET date_time = "
+                + "(SELECT a.date_time FROM archived_meetings a WHERE a.id = ap.meeting_id) WHERE ap.date_time IS NULL");
+        if (archivedDated > 0) {
+            logger.info("Copied the meeting date to {} archived meeting participants.", archivedDated);
+        }
+        // Replaced by idx_archived_meeting_participants_user_timeline, which starts with the same column
+        jdbcTemplate.execute("DROP INDEX IF EXISTS idx_archived_meeting_participants_user");
+    }
+
+    private boolean tableExists(String tableName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = CURRENT_SCHEMA "
+                        + "AND LOWER(table_name) = ?", Integer.class, tableName);
+        return count != null && count > 0;
+    }
+}
@@ -2,9 +2,14 @@ package com.groupmeet.application.controller;
 
 import com.groupmeet.application.controller.AuthController.ErrorResponse;
 import com.groupmeet.application.controller.AuthController.MessageResponse;
+import com.groupmeet.application.dto.BulkAddParticipantsDto;
+import com.groupmeet.application.dto.BulkDeleteMeetingsDto;
+import com.groupmeet.application.dto.BulkDeleteMeetingsResultDto;
 import com.groupmeet.application.dto.MeetingCreationDto;
+import com.groupmeet.application.dto.MeetingCursorPageDto;
 import com.groupmeet.application.dto.MeetingDetailDto;
 import com.groupmeet.application.dto.MeetingDto;
+import com.groupmeet.application.dto.MeetingFacetedPageDto;
 import com.groupmeet.application.dto.MeetingParticipantsPageDto;
 import com.groupmeet.application.dto.MeetingSearchCriteriaDto;
 import com.groupmeet.application.dto.MeetingUpdateDto;
@@ -15,12 +20,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/meetings")
@@ -43,20 +54,57 @@ public class MeetingController {
         }
     }
 
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportMeetings(MeetingSearchCriteriaDto criteria) {
+        StreamingResponseBody body = outputStream -> meetingService.exportMeetings(criteria, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<Page<MeetingDto>> searchMeetings(
+    public ResponseEntity<?> searchMeetings(
             MeetingSearchCriteriaDto criteria,
-            @PageableDefault(size = 10, sort = "dateTime", direction = Sort.Direction.ASC) Pageable pageable) {
-        Page<MeetingDto> meetings = meetingService.searchMeetings(criteria, pageable);
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean cursorPaging,
+            @RequestParam(defaultValue = "false") boolean includeFacets,
+            @PageableDefault(size = 10, sort = "dateTime", direction = Sort.Direction.ASC) Pageable pageable,
+            @AuthenticationPrincipal UserDetails currentUserDetails) {
+        String currentUsername = (currentUserDetails != null) ? currentUserDetails.getUsername() : null;
+        if (cursorPaging || cursor != null) {
+            try {
+                MeetingCursorPageDto meetings = meetingService.searchMeetingsByCursor(criteria, cursor,
+                        pageable.getPageSize(), currentUsername);
+                if (includeFacets) {
+                    meetings.setFacets(meetingService.getSearchFacets(criteria));
+                }
+                return ResponseEntity.ok(meetings);
+            } catch (ResponseStatusException e) {
+                return ResponseEntity.status(e.getStatusCode()).body(new ErrorResponse(e.getReason()));
+            }
+        }
+        Page<MeetingDto> meetings = meetingService.searchMeetings(criteria, pageable, currentUsername);
+        if (includeFacets) {
+            return ResponseEntity.ok(new MeetingFacetedPageDto(meetings, meetingService.getSearchFacets(criteria)));
+        }
         return ResponseEntity.ok(meetings);
     } @GetMapping("/{meetingId}")
     public ResponseEntity<?> getMeetingById(
             @PathVariable Long meetingId,
-            @AuthenticationPrincipal UserDetails currentUserDetails) {
+            @AuthenticationPrincipal UserDetails currentUserDetails,
+            WebRequest webRequest) {
         try {
             String currentUsername = (currentUserDetails != null) ? currentUserDetails.getUsername() : null;
+            // Answered from the cached version without touching the database
+            String eTag = meetingService.getMeetingDetailsETag(meetingId, currentUsername);
+            if (eTag != null && webRequest.checkNotModified(eTag)) {
+                return null;
+            }
             MeetingDetailDto meetingDetailDto = meetingService.getMeetingDetailsById(meetingId, currentUsername);
-            return ResponseEntity.ok(meetingDetailDto);
+            return ResponseEntity.ok()
+                    .eTag(meetingDetailDto.getETag())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(meetingDetailDto);
         } catch (ResponseStatusException e) {
             return ResponseEntity.status(e.getStatusCode()).body(new ErrorResponse(e.getReason())); 
         } catch (Exception e) {
@@ -64,6 +112,21 @@ public class MeetingController {
         }
     }
     
+    @GetMapping("/batch")
+    public ResponseEntity<?> getMeetingsByIds(
+            @RequestParam List<Long> ids,
+            @AuthenticationPrincipal UserDetails currentUserDetails) {
+        try {
+            String currentUsername = (currentUserDetails != null) ? currentUserDetails.getUsername() : null;
+            return ResponseEntity.ok(meetingService.getMeetingDetailsByIds(ids, currentUsername));
+        } catch (ResponseStatusException e) {
+            return ResponseEntity.status(e.getStatusCode()).body(new ErrorResponse(e.getReason()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Fehler beim Laden der Meeting-Details."));
+        }
+    }
+
     @PostMapping("/{meetingId}/join")
     public ResponseEntity<?> joinMeeting(
             @PathVariable Long meetingId,
@@ -100,6 +163,77 @@ public class MeetingController {
         }
     }
 
+    @PostMapping("/{meetingId}/waitlist")
+    public ResponseEntity<?> joinWaitlist(
+            @PathVariable Long meetingId,
+            @AuthenticationPrincipal UserDetails currentUserDetails) {
+        if (currentUserDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            return ResponseEntity.ok(meetingService.joinWaitlist(meetingId, currentUserDetails.getUsername()));
+        } catch (ResponseStatusException e) {
+            return ResponseEntity.status(e.getStatusCode()).body(new AuthController.ErrorResponse(e.getReason()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new AuthController.ErrorResponse("Fehler beim Eintragen in die Warteliste."));
+        }
+    }
+
+    @DeleteMapping("/{meetingId}/waitlist")
+    public ResponseEntity<?> leaveWaitlist(
+            @PathVariable Long meetingId,
+            @AuthenticationPrincipal UserDetails currentUserDetails) {
+        if (currentUserDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            meetingService.leaveWaitlist(meetingId, currentUserDetails.getUsername());
+            return ResponseEntity.ok(new MessageResponse("Warteliste erfolgreich verlassen."));
+        } catch (ResponseStatusException e) {
+            return ResponseEntity.status(e.getStatusCode()).body(new AuthController.ErrorResponse(e.getReason()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new AuthController.ErrorResponse("Fehler beim Verlassen der Warteliste."));
+        }
+    }
+
+    @GetMapping("/{meetingId}/waitlist/position")
+    public ResponseEntity<?> getWaitlistPosition(
+            @PathVariable Long meetingId,
+            @AuthenticationPrincipal UserDetails currentUserDetails) {
+        if (currentUserDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            return ResponseEntity.ok(meetingService.getWaitlistPosition(meetingId, currentUserDetails.getUsername()));
+        } catch (ResponseStatusException e) {
+            return ResponseEntity.status(e.getStatusCode()).body(new AuthController.ErrorResponse(e.getReason()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new AuthController.ErrorResponse("Fehler beim Laden der Wartelistenposition."));
+        }
+    }
+
+    @PostMapping("/{meetingId}/participants")
+    public ResponseEntity<?> addMeetingParticipants(
+            @PathVariable Long meetingId,
+            @Valid @RequestBody BulkAddParticipantsDto bulkAddParticipantsDto,
+            @AuthenticationPrincipal UserDetails currentUserDetails) {
+        if (currentUserDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            return ResponseEntity.ok(meetingService.addParticipants(meetingId, bulkAddParticipantsDto.getUserIds(),
+                    currentUserDetails.getUsername()));
+        } catch (ResponseStatusException e) {
+            return ResponseEntity.status(e.getStatusCode()).body(new AuthController.ErrorResponse(e.getReason()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new AuthController.ErrorResponse("Fehler beim Hinzufügen der Teilnehmer."));
+        }
+    }
+
     @PostMapping("/{meetingId}/participants/{userId}/block")
     public ResponseEntity<?> blockMeetingParticipant(
             @PathVariable Long meetingId,
@@ -193,6 +327,26 @@ public class MeetingController {
         }
     }
 
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<?> deleteMeetings(
+            @Valid @RequestBody BulkDeleteMeetingsDto bulkDeleteMeetingsDto,
+            @AuthenticationPrincipal UserDetails currentUserDetails) {
+        if (currentUserDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            int deleted = meetingService.deleteMeetingsAsAdmin(bulkDeleteMeetingsDto.getMeetingIds(),
+                    currentUserDetails.getUsername());
+            return ResponseEntity.ok(
+                    new BulkDeleteMeetingsResultDto(bulkDeleteMeetingsDto.getMeetingIds().size(), deleted));
+        } catch (ResponseStatusException e) {
+            return ResponseEntity.status(e.getStatusCode()).body(new AuthController.ErrorResponse(e.getReason()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new AuthController.ErrorResponse("Fehler beim Löschen der Meetings."));
+        }
+    }
+
     @PutMapping("/{meetingId}")
     public ResponseEntity<?> updateMeeting(
             @PathVariable Long meetingId,
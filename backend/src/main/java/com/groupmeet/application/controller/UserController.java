@@ -1,6 +1,7 @@
 package com.groupmeet.application.controller;
 
 import com.groupmeet.application.dto.AuthResponseDto;
+import com.groupmeet.application.dto.MeetingTimelineSection;
 import com.groupmeet.application.dto.UserProfileDto;
 import com.groupmeet.application.dto.UserSearchQueryCriteria;
 import com.groupmeet.application.dto.UserSearchResultDto;
@@ -100,6 +101,22 @@ public class UserController {
         }
     }
 
+    @GetMapping("/{userId}/meetings/timeline")
+    public ResponseEntity<?> getUserMeetingTimeline(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "UPCOMING") MeetingTimelineSection section,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") int size) {
+        try {
+            return ResponseEntity.ok(meetingService.getUserMeetingTimeline(userId, section, cursor, size));
+        } catch (ResponseStatusException e) {
+            return ResponseEntity.status(e.getStatusCode()).body(new AuthController.ErrorResponse(e.getReason()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new AuthController.ErrorResponse("Fehler beim Laden der Meetings."));
+        }
+    }
+
     @PostMapping("/subscribe")
     public ResponseEntity<?> subscribeToPro(@AuthenticationPrincipal UserDetails userDetails) {
         if (userDetails == null) {
@@ -0,0 +1,21 @@
+package com.groupmeet.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BulkAddParticipantsDto {
+
+    @NotEmpty(message = "Mindestens ein Benutzer ist erforderlich")
+    @Size(max = 200, message = "Es können maximal 200 Benutzer auf einmal hinzugefügt werden")
+    private List<Long> userIds;
+
+    public List<Long> getUserIds() {
+        return userIds;
+    }
+
+    public void setUserIds(List<Long> userIds) {
+        this.userIds = userIds;
+    }
+}
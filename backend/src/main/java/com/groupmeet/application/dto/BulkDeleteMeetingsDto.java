@@ -0,0 +1,21 @@
+package com.groupmeet.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BulkDeleteMeetingsDto {
+
+    @NotEmpty(message = "Mindestens ein Meeting ist erforderlich")
+    @Size(max = 10000, message = "Es können maximal 10000 Meetings auf einmal gelöscht werden")
+    private List<Long> meetingIds;
+
+    public List<Long> getMeetingIds() {
+        return meetingIds;
+    }
+
+    public void setMeetingIds(List<Long> meetingIds) {
+        this.meetingIds = meetingIds;
+    }
+}
@@ -0,0 +1,30 @@
+package com.groupmeet.application.dto;
+
+public class BulkDeleteMeetingsResultDto {
+    private int requested;
+    private int deleted;
+
+    public BulkDeleteMeetingsResultDto() {
+    }
+
+    public BulkDeleteMeetingsResultDto(int requested, int deleted) {
+        this.requested = requested;
+        this.deleted = deleted;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(int deleted) {
+        this.deleted = deleted;
+    }
+}
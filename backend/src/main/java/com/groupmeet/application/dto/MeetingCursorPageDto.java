@@ -0,0 +1,61 @@
+package com.groupmeet.application.dto;
+
+import java.util.List;
+
+public class MeetingCursorPageDto {
+    private List<MeetingDto> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+    private MeetingFacetsDto facets;
+
+    public MeetingCursorPageDto() {
+    }
+
+    public MeetingCursorPageDto(List<MeetingDto> content, String nextCursor, int size) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.size = size;
+    }
+
+    public List<MeetingDto> getContent() {
+        return content;
+    }
+
+    public void setContent(List<MeetingDto> content) {
+        this.content = content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public MeetingFacetsDto getFacets() {
+        return facets;
+    }
+
+    public void setFacets(MeetingFacetsDto facets) {
+        this.facets = facets;
+    }
+}
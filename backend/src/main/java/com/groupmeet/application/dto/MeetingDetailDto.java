@@ -1,5 +1,6 @@
 package com.groupmeet.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.groupmeet.application.model.MeetingFormat;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,6 +20,8 @@ public class MeetingDetailDto {
     private CurrentUserMeetingMembership currentUserMembership;
     private boolean isCurrentUserOrganizer;
     private long participantCount;
+    // Sent as the ETag header rather than in the body
+    private String eTag;
 
     public MeetingDetailDto() {}
 
@@ -50,4 +53,8 @@ public class MeetingDetailDto {
     public void setCurrentUserOrganizer(boolean currentUserOrganizer) { this.isCurrentUserOrganizer = currentUserOrganizer; }
     public long getParticipantCount() { return participantCount; }
     public void setParticipantCount(long participantCount) { this.participantCount = participantCount; }
+
+    @JsonIgnore
+    public String getETag() { return eTag; }
+    public void setETag(String eTag) { this.eTag = eTag; }
 }
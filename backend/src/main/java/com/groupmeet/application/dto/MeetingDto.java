@@ -20,6 +20,9 @@ public class MeetingDto {
     private Integer maxParticipants;
     private String creatorUsername;
     private LocalDateTime createdAt;
+    private boolean currentUserJoined;
+    private boolean currentUserOrganizer;
+    private boolean currentUserBlocked;
 
     public MeetingDto() {
     }
@@ -41,7 +44,7 @@ public class MeetingDto {
         }
         dto.setLocation(meeting.getLocation());
         dto.setDateTime(meeting.getDateTime());
-        dto.setParticipantCount(meeting.getParticipants() != null ? meeting.getParticipants().size() : 0);
+        dto.setParticipantCount(meeting.getParticipantCount());
         dto.setMaxParticipants(meeting.getMaxParticipants());
         if (meeting.getCreator() != null) {
             dto.setCreatorUsername(meeting.getCreator().getUsername());
@@ -50,6 +53,26 @@ public class MeetingDto {
         return dto;
     }
 
+    // Cached results are shared between viewers, so the flags go on a copy
+    public MeetingDto forCurrentUser(boolean joined, boolean organizer, boolean blocked) {
+        MeetingDto dto = new MeetingDto();
+        dto.setId(id);
+        dto.setTitle(title);
+        dto.setDescription(description);
+        dto.setFormat(format);
+        dto.setMeetingTypeNames(meetingTypeNames);
+        dto.setLocation(location);
+        dto.setDateTime(dateTime);
+        dto.setParticipantCount(participantCount);
+        dto.setMaxParticipants(maxParticipants);
+        dto.setCreatorUsername(creatorUsername);
+        dto.setCreatedAt(createdAt);
+        dto.setCurrentUserJoined(joined);
+        dto.setCurrentUserOrganizer(organizer);
+        dto.setCurrentUserBlocked(blocked);
+        return dto;
+    }
+
     public Long getId() {
         return id;
     }
@@ -137,4 +160,28 @@ public class MeetingDto {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
-}
\ No newline at end of file
+
+    public boolean isCurrentUserJoined() {
+        return currentUserJoined;
+    }
+
+    public void setCurrentUserJoined(boolean currentUserJoined) {
+        this.currentUserJoined = currentUserJoined;
+    }
+
+    public boolean isCurrentUserOrganizer() {
+        return currentUserOrganizer;
+    }
+
+    public void setCurrentUserOrganizer(boolean currentUserOrganizer) {
+        this.currentUserOrganizer = currentUserOrganizer;
+    }
+
+    public boolean isCurrentUserBlocked() {
+        return currentUserBlocked;
+    }
+
+    public void setCurrentUserBlocked(boolean currentUserBlocked) {
+        this.currentUserBlocked = currentUserBlocked;
+    }
+}
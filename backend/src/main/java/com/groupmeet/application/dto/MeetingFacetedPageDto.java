@@ -0,0 +1,74 @@
+package com.groupmeet.application.dto;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+public class MeetingFacetedPageDto {
+    private List<MeetingDto> content;
+    private int number;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private MeetingFacetsDto facets;
+
+    public MeetingFacetedPageDto() {
+    }
+
+    public MeetingFacetedPageDto(Page<MeetingDto> page, MeetingFacetsDto facets) {
+        this.content = page.getContent();
+        this.number = page.getNumber();
+        this.size = page.getSize();
+        this.totalElements = page.getTotalElements();
+        this.totalPages = page.getTotalPages();
+        this.facets = facets;
+    }
+
+    public List<MeetingDto> getContent() {
+        return content;
+    }
+
+    public void setContent(List<MeetingDto> content) {
+        this.content = content;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public void setNumber(int number) {
+        this.number = number;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    public void setTotalPages(int totalPages) {
+        this.totalPages = totalPages;
+    }
+
+    public MeetingFacetsDto getFacets() {
+        return facets;
+    }
+
+    public void setFacets(MeetingFacetsDto facets) {
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,42 @@
+package com.groupmeet.application.dto;
+
+import java.util.Map;
+
+public class MeetingFacetsDto {
+    private Map<String, Long> types;
+    private Map<String, Long> formats;
+    private Map<String, Long> locations;
+
+    public MeetingFacetsDto() {
+    }
+
+    public MeetingFacetsDto(Map<String, Long> types, Map<String, Long> formats, Map<String, Long> locations) {
+        this.types = types;
+        this.formats = formats;
+        this.locations = locations;
+    }
+
+    public Map<String, Long> getTypes() {
+        return types;
+    }
+
+    public void setTypes(Map<String, Long> types) {
+        this.types = types;
+    }
+
+    public Map<String, Long> getFormats() {
+        return formats;
+    }
+
+    public void setFormats(Map<String, Long> formats) {
+        this.formats = formats;
+    }
+
+    public Map<String, Long> getLocations() {
+        return locations;
+    }
+
+    public void setLocations(Map<String, Long> locations) {
+        this.locations = locations;
+    }
+}
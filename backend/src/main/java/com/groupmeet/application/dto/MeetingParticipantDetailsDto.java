@@ -1,6 +1,7 @@
 package com.groupmeet.application.dto;
 
 import com.groupmeet.application.model.Gender;
+import com.groupmeet.application.model.ParticipationStatus;
 import com.groupmeet.application.model.User;
 
 public class MeetingParticipantDetailsDto {
@@ -16,6 +17,19 @@ public class MeetingParticipantDetailsDto {
 
     public MeetingParticipantDetailsDto() {}
 
+    public MeetingParticipantDetailsDto(Long id, String username, String firstName, String lastName, String avatarUrl,
+            Gender gender, boolean isOrganizer, ParticipationStatus participationStatus, boolean pro) {
+        this.id = id;
+        this.username = username;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.avatarUrl = avatarUrl;
+        this.gender = gender;
+        this.isOrganizer = isOrganizer;
+        this.participationStatus = participationStatus.name();
+        this.pro = pro;
+    }
+
     public static MeetingParticipantDetailsDto fromUser(User user, boolean isOrganizer, String participationStatus) {
         MeetingParticipantDetailsDto dto = new MeetingParticipantDetailsDto();
         dto.setId(user.getId());
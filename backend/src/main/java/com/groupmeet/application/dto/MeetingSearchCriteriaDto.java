@@ -10,6 +10,7 @@ public class MeetingSearchCriteriaDto {
     private String searchTerm;
     private List<String> types;
     private String location;
+    private Double radiusKm;
     private MeetingFormat format;
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
     private LocalDate startDate;
@@ -40,6 +41,14 @@ public class MeetingSearchCriteriaDto {
         this.location = location;
     }
 
+    public Double getRadiusKm() {
+        return radiusKm;
+    }
+
+    public void setRadiusKm(Double radiusKm) {
+        this.radiusKm = radiusKm;
+    }
+
     public MeetingFormat getFormat() {
         return format;
     }
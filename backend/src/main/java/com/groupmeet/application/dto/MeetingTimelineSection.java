@@ -0,0 +1,6 @@
+package com.groupmeet.application.dto;
+
+public enum MeetingTimelineSection {
+    UPCOMING,
+    PAST
+}
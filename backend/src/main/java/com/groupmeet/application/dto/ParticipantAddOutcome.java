@@ -0,0 +1,10 @@
+package com.groupmeet.application.dto;
+
+public enum ParticipantAddOutcome {
+    ADDED,               // Benutzer wurde als Teilnehmer hinzugefügt
+    ALREADY_PARTICIPANT, // Benutzer nimmt bereits teil
+    BLOCKED,             // Benutzer ist für das Meeting gesperrt
+    USER_NOT_FOUND,      // Benutzer existiert nicht
+    QUOTA_EXCEEDED,      // Kostenloser Benutzer hat sein Limit aktiver Meetings erreicht
+    MEETING_FULL         // Keine freien Plätze mehr
+}
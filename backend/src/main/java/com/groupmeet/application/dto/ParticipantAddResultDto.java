@@ -0,0 +1,30 @@
+package com.groupmeet.application.dto;
+
+public class ParticipantAddResultDto {
+    private Long userId;
+    private ParticipantAddOutcome outcome;
+
+    public ParticipantAddResultDto() {
+    }
+
+    public ParticipantAddResultDto(Long userId, ParticipantAddOutcome outcome) {
+        this.userId = userId;
+        this.outcome = outcome;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public ParticipantAddOutcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(ParticipantAddOutcome outcome) {
+        this.outcome = outcome;
+    }
+}
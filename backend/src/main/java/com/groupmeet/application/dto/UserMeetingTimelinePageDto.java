@@ -0,0 +1,63 @@
+package com.groupmeet.application.dto;
+
+import java.util.List;
+
+public class UserMeetingTimelinePageDto {
+    private MeetingTimelineSection section;
+    private List<UserProfileMeetingDto> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+
+    public UserMeetingTimelinePageDto() {
+    }
+
+    public UserMeetingTimelinePageDto(MeetingTimelineSection section, List<UserProfileMeetingDto> content,
+            String nextCursor, int size) {
+        this.section = section;
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.size = size;
+    }
+
+    public MeetingTimelineSection getSection() {
+        return section;
+    }
+
+    public void setSection(MeetingTimelineSection section) {
+        this.section = section;
+    }
+
+    public List<UserProfileMeetingDto> getContent() {
+        return content;
+    }
+
+    public void setContent(List<UserProfileMeetingDto> content) {
+        this.content = content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
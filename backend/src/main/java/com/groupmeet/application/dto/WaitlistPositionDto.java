@@ -0,0 +1,40 @@
+package com.groupmeet.application.dto;
+
+public class WaitlistPositionDto {
+    private Long meetingId;
+    private long position;
+    private long waitlistSize;
+
+    public WaitlistPositionDto() {
+    }
+
+    public WaitlistPositionDto(Long meetingId, long position, long waitlistSize) {
+        this.meetingId = meetingId;
+        this.position = position;
+        this.waitlistSize = waitlistSize;
+    }
+
+    public Long getMeetingId() {
+        return meetingId;
+    }
+
+    public void setMeetingId(Long meetingId) {
+        this.meetingId = meetingId;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public void setPosition(long position) {
+        this.position = position;
+    }
+
+    public long getWaitlistSize() {
+        return waitlistSize;
+    }
+
+    public void setWaitlistSize(long waitlistSize) {
+        this.waitlistSize = waitlistSize;
+    }
+}
@@ -0,0 +1,61 @@
+package com.groupmeet.application.event;
+
+/**
+ * Published by MeetingService whenever a meeting is created, updated or deleted.
+ * Listeners keeping derived in-memory state should react after the transaction commits.
+ */
+public class MeetingChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final ChangeType changeType;
+    private final Long meetingId;
+    private final MeetingSnapshot previous;
+    private final MeetingSnapshot current;
+
+    public MeetingChangedEvent(ChangeType changeType, Long meetingId, MeetingSnapshot previous,
+            MeetingSnapshot current) {
+        this.changeType = changeType;
+        this.meetingId = meetingId;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public static MeetingChangedEvent created(MeetingSnapshot current) {
+        return new MeetingChangedEvent(ChangeType.CREATED, current.getId(), null, current);
+    }
+
+    public static MeetingChangedEvent updated(MeetingSnapshot previous, MeetingSnapshot current) {
+        return new MeetingChangedEvent(ChangeType.UPDATED, current.getId(), previous, current);
+    }
+
+    public static MeetingChangedEvent deleted(MeetingSnapshot previous) {
+        return new MeetingChangedEvent(ChangeType.DELETED, previous.getId(), previous, null);
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public Long getMeetingId() {
+        return meetingId;
+    }
+
+    /**
+     * @return the state before the change, or null if the meeting was created
+     */
+    public MeetingSnapshot getPrevious() {
+        return previous;
+    }
+
+    /**
+     * @return the state after the change, or null if the meeting was deleted
+     */
+    public MeetingSnapshot getCurrent() {
+        return current;
+    }
+}
@@ -0,0 +1,26 @@
+package com.groupmeet.application.event;
+
+import com.groupmeet.application.model.MeetingStatus;
+
+/**
+ * Published by MeetingLifecycleScheduler after a meeting has started (ONGOING) or ended (COMPLETED)
+ * and the new status has been stored.
+ */
+public class MeetingLifecycleEvent {
+
+    private final Long meetingId;
+    private final MeetingStatus status;
+
+    public MeetingLifecycleEvent(Long meetingId, MeetingStatus status) {
+        this.meetingId = meetingId;
+        this.status = status;
+    }
+
+    public Long getMeetingId() {
+        return meetingId;
+    }
+
+    public MeetingStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,32 @@
+package com.groupmeet.application.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published when the participants or blocked users of a meeting have changed, e.g. because a user
+ * joined, left, was promoted from the waitlist or was blocked by the organizer. Carries the
+ * usernames of the affected users, if any.
+ */
+public class MeetingMembersChangedEvent {
+
+    private final Long meetingId;
+    private final Collection<String> usernames;
+
+    public MeetingMembersChangedEvent(Long meetingId) {
+        this(meetingId, List.of());
+    }
+
+    public MeetingMembersChangedEvent(Long meetingId, Collection<String> usernames) {
+        this.meetingId = meetingId;
+        this.usernames = usernames;
+    }
+
+    public Long getMeetingId() {
+        return meetingId;
+    }
+
+    public Collection<String> getUsernames() {
+        return usernames;
+    }
+}
@@ -0,0 +1,18 @@
+package com.groupmeet.application.event;
+
+/**
+ * Published by MeetingService when a meeting may have gained free seats, e.g. because a participant
+ * left or the capacity was raised.
+ */
+public class MeetingSeatsFreedEvent {
+
+    private final Long meetingId;
+
+    public MeetingSeatsFreedEvent(Long meetingId) {
+        this.meetingId = meetingId;
+    }
+
+    public Long getMeetingId() {
+        return meetingId;
+    }
+}
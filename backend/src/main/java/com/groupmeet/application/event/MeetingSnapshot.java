@@ -0,0 +1,47 @@
+package com.groupmeet.application.event;
+
+import com.groupmeet.application.model.Interest;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class MeetingSnapshot {
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final MeetingFormat format;
+    private final String location;
+    private final LocalDateTime dateTime;
+    private final List<String> meetingTypeNames;
+
+    public MeetingSnapshot(Long id, String title, String description, MeetingFormat format, String location,
+            LocalDateTime dateTime, List<String> meetingTypeNames) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.format = format;
+        this.location = location;
+        this.dateTime = dateTime;
+        this.meetingTypeNames = meetingTypeNames;
+    }
+
+    public static MeetingSnapshot of(Meeting meeting) {
+        List<String> typeNames = meeting.getMeetingTypes() == null ? List.of()
+                : meeting.getMeetingTypes().stream()
+                        .map(Interest::getName)
+                        .collect(Collectors.toList());
+        return new MeetingSnapshot(meeting.getId(), meeting.getTitle(), meeting.getDescription(),
+                meeting.getFormat(), meeting.getLocation(), meeting.getDateTime(), typeNames);
+    }
+
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public MeetingFormat getFormat() { return format; }
+    public String getLocation() { return location; }
+    public LocalDateTime getDateTime() { return dateTime; }
+    public List<String> getMeetingTypeNames() { return meetingTypeNames; }
+}
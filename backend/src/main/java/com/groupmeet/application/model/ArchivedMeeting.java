@@ -0,0 +1,150 @@
+package com.groupmeet.application.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A completed meeting moved out of the live tables by the archiver. Rows keep the id they had in
+ * {@code meetings}, and are only written through the archiver's INSERT ... SELECT statements.
+ */
+@Entity
+@Table(name = "archived_meetings", indexes = {
+        @Index(name = "idx_archived_meetings_date_time_id", columnList = "date_time, id")
+})
+public class ArchivedMeeting {
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 255)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MeetingFormat format;
+
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(
+            name = "archived_meeting_meeting_types",
+            joinColumns = @JoinColumn(name = "meeting_id"),
+            inverseJoinColumns = @JoinColumn(name = "interest_id")
+    )
+    private Set<Interest> meetingTypes = new HashSet<>();
+
+    @Column(length = 255)
+    private String location;
+
+    @Column(name = "date_time", nullable = false)
+    private LocalDateTime dateTime;
+
+    @Column(name = "max_participants")
+    private Integer maxParticipants;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "creator_id", nullable = false)
+    private User creator;
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "archived_meeting_participants", joinColumns = @JoinColumn(name = "meeting_id"),
+            indexes = @Index(name = "idx_archived_meeting_participants_user_timeline",
+                    columnList = "user_id, date_time, meeting_id"))
+    private Set<ArchivedMeetingParticipant> participants = new HashSet<>();
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "archived_meeting_blocked_participants", joinColumns = @JoinColumn(name = "meeting_id"))
+    private Set<ArchivedMeetingBlock> blockedParticipants = new HashSet<>();
+
+    @Column(name = "participant_count", nullable = false)
+    private int participantCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    public ArchivedMeeting() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public MeetingFormat getFormat() {
+        return format;
+    }
+
+    public Set<Interest> getMeetingTypes() {
+        return meetingTypes;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public LocalDateTime getDateTime() {
+        return dateTime;
+    }
+
+    public Integer getMaxParticipants() {
+        return maxParticipants;
+    }
+
+    public User getCreator() {
+        return creator;
+    }
+
+    public Set<ArchivedMeetingParticipant> getParticipants() {
+        return participants;
+    }
+
+    public Set<ArchivedMeetingBlock> getBlockedParticipants() {
+        return blockedParticipants;
+    }
+
+    public int getParticipantCount() {
+        return participantCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArchivedMeeting that = (ArchivedMeeting) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
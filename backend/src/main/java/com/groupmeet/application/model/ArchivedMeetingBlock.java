@@ -0,0 +1,60 @@
+package com.groupmeet.application.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Embeddable
+public class ArchivedMeetingBlock {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "blocker_id", nullable = false)
+    private Long blockerId;
+
+    @Column(name = "blocked_at", nullable = false)
+    private LocalDateTime blockedAt;
+
+    public ArchivedMeetingBlock() {
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getBlockerId() {
+        return blockerId;
+    }
+
+    public void setBlockerId(Long blockerId) {
+        this.blockerId = blockerId;
+    }
+
+    public LocalDateTime getBlockedAt() {
+        return blockedAt;
+    }
+
+    public void setBlockedAt(LocalDateTime blockedAt) {
+        this.blockedAt = blockedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArchivedMeetingBlock that = (ArchivedMeetingBlock) o;
+        return Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId);
+    }
+}
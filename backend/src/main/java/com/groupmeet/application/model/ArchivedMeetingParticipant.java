@@ -0,0 +1,50 @@
+package com.groupmeet.application.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Embeddable
+public class ArchivedMeetingParticipant {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // Copy of the meeting's date, so a user's archived meetings can be read in date order from the index
+    @Column(name = "date_time")
+    private LocalDateTime dateTime;
+
+    public ArchivedMeetingParticipant() {
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getDateTime() {
+        return dateTime;
+    }
+
+    public void setDateTime(LocalDateTime dateTime) {
+        this.dateTime = dateTime;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArchivedMeetingParticipant that = (ArchivedMeetingParticipant) o;
+        return Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId);
+    }
+}
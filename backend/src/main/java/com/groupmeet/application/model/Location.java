@@ -17,6 +17,10 @@ public class Location {
     @Column(unique = true, nullable = false)
     private String name;
 
+    private Double latitude;
+
+    private Double longitude;
+
     public Location() {
     }
 
@@ -24,6 +28,12 @@ public class Location {
         this.name = name;
     }
 
+    public Location(String name, Double latitude, Double longitude) {
+        this.name = name;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
     public Long getId() {
         return id;
     }
@@ -40,6 +50,22 @@ public class Location {
         this.name = name;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -9,12 +9,16 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 @Entity
-@Table(name = "meetings")
+@Table(name = "meetings", indexes = {
+        @Index(name = "idx_meetings_date_time_id", columnList = "date_time, id")
+})
 public class Meeting {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -58,13 +62,27 @@ public class Meeting {
     @JoinColumn(name = "creator_id", nullable = false)
     private User creator;
 
-    @ManyToMany(fetch = FetchType.LAZY)
-    @JoinTable(
-            name = "meeting_participants",
-            joinColumns = @JoinColumn(name = "meeting_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id")
-    )
-    private Set<User> participants = new HashSet<>();
+    @OneToMany(mappedBy = "meeting", cascade = {CascadeType.PERSIST, CascadeType.REMOVE})
+    private List<MeetingParticipation> participations = new ArrayList<>();
+
+    // Only written on insert and through atomic bulk updates, so entity saves cannot overwrite concurrent changes
+    @Column(name = "participant_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private int participantCount = 0;
+
+    // Advanced by MeetingLifecycleScheduler through conditional bulk updates only
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, updatable = false, length = 20,
+            columnDefinition = "varchar(20) default 'UPCOMING'")
+    private MeetingStatus status = MeetingStatus.UPCOMING;
+
+    // Claimed by MeetingReminderScheduler through conditional bulk updates, cleared when the meeting is moved
+    @Enumerated(EnumType.STRING)
+    @Column(name = "last_reminder", updatable = false, length = 20)
+    private MeetingReminder lastReminder;
+
+    // User ids of the first participants in join order, kept up to date by MeetingParticipantPreview
+    @Column(name = "participant_preview", updatable = false, length = 100)
+    private String participantPreview;
 
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -149,20 +167,52 @@ public class Meeting {
         this.creator = creator;
     }
 
-    public Set<User> getParticipants() {
-        return participants;
+    public List<MeetingParticipation> getParticipations() {
+        return participations;
     }
 
-    public void setParticipants(Set<User> participants) {
-        this.participants = participants;
+    public void setParticipations(List<MeetingParticipation> participations) {
+        this.participations = participations;
     }
 
+    // Only used while building a new meeting; existing memberships change through MeetingParticipationRepository
     public void addParticipant(User user) {
-        this.participants.add(user);
+        boolean organizer = creator != null
+                && (creator == user || (creator.getId() != null && creator.getId().equals(user.getId())));
+        this.participations.add(new MeetingParticipation(this, user,
+                organizer ? ParticipationRole.ORGANIZER : ParticipationRole.PARTICIPANT));
+    }
+
+    public int getParticipantCount() {
+        return participantCount;
+    }
+
+    public void setParticipantCount(int participantCount) {
+        this.participantCount = participantCount;
+    }
+
+    public MeetingStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(MeetingStatus status) {
+        this.status = status;
+    }
+
+    public MeetingReminder getLastReminder() {
+        return lastReminder;
+    }
+
+    public void setLastReminder(MeetingReminder lastReminder) {
+        this.lastReminder = lastReminder;
+    }
+
+    public String getParticipantPreview() {
+        return participantPreview;
     }
 
-    public void removeParticipant(User user) {
-        this.participants.remove(user);
+    public void setParticipantPreview(String participantPreview) {
+        this.participantPreview = participantPreview;
     }
 
     public LocalDateTime getCreatedAt() {
@@ -0,0 +1,163 @@
+package com.groupmeet.application.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Relation of a user to a meeting: an active participant or a user blocked by the organizer.
+ */
+@Entity
+@Table(name = "meeting_participations",
+       uniqueConstraints = @UniqueConstraint(name = "uk_meeting_participations_meeting_user",
+               columnNames = {"meeting_id", "user_id"}),
+       indexes = {
+               @Index(name = "idx_meeting_participations_meeting_status", columnList = "meeting_id, status, role, joined_at"),
+               @Index(name = "idx_meeting_participations_user_status", columnList = "user_id, status"),
+               @Index(name = "idx_meeting_participations_user_timeline",
+                       columnList = "user_id, status, meeting_date_time, meeting_id")
+       })
+public class MeetingParticipation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "meeting_id", nullable = false)
+    private Meeting meeting;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ParticipationStatus status = ParticipationStatus.ACTIVE;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ParticipationRole role = ParticipationRole.PARTICIPANT;
+
+    @Column(name = "joined_at", nullable = false)
+    private LocalDateTime joinedAt;
+
+    // Copy of the meeting's date, so a user's timeline can be read in date order from the index
+    @Column(name = "meeting_date_time")
+    private LocalDateTime meetingDateTime;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blocker_id")
+    private User blocker;
+
+    @Column(name = "blocked_at")
+    private LocalDateTime blockedAt;
+
+    public MeetingParticipation() {
+    }
+
+    public MeetingParticipation(Meeting meeting, User user, ParticipationRole role) {
+        this.meeting = meeting;
+        this.user = user;
+        this.role = role;
+        this.joinedAt = LocalDateTime.now();
+        this.meetingDateTime = meeting.getDateTime();
+    }
+
+    public void block(User blocker) {
+        this.status = ParticipationStatus.BLOCKED;
+        this.blocker = blocker;
+        this.blockedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Meeting getMeeting() {
+        return meeting;
+    }
+
+    public void setMeeting(Meeting meeting) {
+        this.meeting = meeting;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public ParticipationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ParticipationStatus status) {
+        this.status = status;
+    }
+
+    public ParticipationRole getRole() {
+        return role;
+    }
+
+    public void setRole(ParticipationRole role) {
+        this.role = role;
+    }
+
+    public LocalDateTime getJoinedAt() {
+        return joinedAt;
+    }
+
+    public void setJoinedAt(LocalDateTime joinedAt) {
+        this.joinedAt = joinedAt;
+    }
+
+    public LocalDateTime getMeetingDateTime() {
+        return meetingDateTime;
+    }
+
+    public void setMeetingDateTime(LocalDateTime meetingDateTime) {
+        this.meetingDateTime = meetingDateTime;
+    }
+
+    public User getBlocker() {
+        return blocker;
+    }
+
+    public void setBlocker(User blocker) {
+        this.blocker = blocker;
+    }
+
+    public LocalDateTime getBlockedAt() {
+        return blockedAt;
+    }
+
+    public void setBlockedAt(LocalDateTime blockedAt) {
+        this.blockedAt = blockedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MeetingParticipation that = (MeetingParticipation) o;
+        return id != null && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,18 @@
+package com.groupmeet.application.model;
+
+import java.time.Duration;
+
+public enum MeetingReminder {
+    DAY_BEFORE(Duration.ofHours(24)),
+    HOUR_BEFORE(Duration.ofHours(1));
+
+    private final Duration leadTime;
+
+    MeetingReminder(Duration leadTime) {
+        this.leadTime = leadTime;
+    }
+
+    public Duration getLeadTime() {
+        return leadTime;
+    }
+}
@@ -0,0 +1,7 @@
+package com.groupmeet.application.model;
+
+public enum MeetingStatus {
+    UPCOMING,
+    ONGOING,
+    COMPLETED
+}
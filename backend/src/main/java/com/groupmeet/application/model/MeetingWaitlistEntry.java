@@ -7,10 +7,14 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
+/**
+ * A user waiting for a seat in a full meeting. Entries are promoted in the order of their ids.
+ */
 @Entity
-@Table(name = "meeting_blocked_participants",
-       uniqueConstraints = @UniqueConstraint(columnNames = {"meeting_id", "user_id"}))
-public class BlockedMeetingParticipant {
+@Table(name = "meeting_waitlist",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"meeting_id", "user_id"}),
+       indexes = @Index(name = "idx_meeting_waitlist_meeting_id", columnList = "meeting_id, id"))
+public class MeetingWaitlistEntry {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,22 +30,16 @@ public class BlockedMeetingParticipant {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @NotNull
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "blocker_id", nullable = false)
-    private User blocker;
-
     @CreationTimestamp
-    @Column(name = "blocked_at", nullable = false, updatable = false)
-    private LocalDateTime blockedAt;
+    @Column(name = "joined_at", nullable = false, updatable = false)
+    private LocalDateTime joinedAt;
 
-    public BlockedMeetingParticipant() {
+    public MeetingWaitlistEntry() {
     }
 
-    public BlockedMeetingParticipant(Meeting meeting, User user, User blocker) {
+    public MeetingWaitlistEntry(Meeting meeting, User user) {
         this.meeting = meeting;
         this.user = user;
-        this.blocker = blocker;
     }
 
     public Long getId() {
@@ -68,27 +66,19 @@ public class BlockedMeetingParticipant {
         this.user = user;
     }
 
-    public User getBlocker() {
-        return blocker;
-    }
-
-    public void setBlocker(User blocker) {
-        this.blocker = blocker;
-    }
-
-    public LocalDateTime getBlockedAt() {
-        return blockedAt;
+    public LocalDateTime getJoinedAt() {
+        return joinedAt;
     }
 
-    public void setBlockedAt(LocalDateTime blockedAt) {
-        this.blockedAt = blockedAt;
+    public void setJoinedAt(LocalDateTime joinedAt) {
+        this.joinedAt = joinedAt;
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
-        BlockedMeetingParticipant that = (BlockedMeetingParticipant) o;
+        MeetingWaitlistEntry that = (MeetingWaitlistEntry) o;
         return Objects.equals(id, that.id);
     }
 
@@ -96,4 +86,4 @@ public class BlockedMeetingParticipant {
     public int hashCode() {
         return Objects.hash(id);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,6 @@
+package com.groupmeet.application.model;
+
+public enum ParticipationRole {
+    ORGANIZER,
+    PARTICIPANT
+}
@@ -0,0 +1,64 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.model.ArchivedMeeting;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedMeetingRepository extends JpaRepository<ArchivedMeeting, Long> {
+
+    @Query(value = "SELECT id FROM meetings WHERE date_time < :startedBefore ORDER BY id LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockMeetingIdsStartedBefore(@Param("startedBefore") LocalDateTime startedBefore,
+            @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_meetings (id, title, description, format, location, date_time, "
+            + "max_participants, creator_id, participant_count, created_at, updated_at, archived_at) "
+            + "SELECT id, title, description, format, location, date_time, max_participants, creator_id, "
+            + "participant_count, created_at, updated_at, :archivedAt FROM meetings WHERE id IN (:meetingIds)",
+            nativeQuery = true)
+    int copyMeetings(@Param("meetingIds") Collection<Long> meetingIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_meeting_meeting_types (meeting_id, interest_id) "
+            + "SELECT meeting_id, interest_id FROM meeting_meeting_types WHERE meeting_id IN (:meetingIds)",
+            nativeQuery = true)
+    int copyMeetingTypes(@Param("meetingIds") Collection<Long> meetingIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_meeting_participants (meeting_id, user_id, date_time) "
+            + "SELECT mp.meeting_id, mp.user_id, m.date_time FROM meeting_participations mp "
+            + "JOIN meetings m ON m.id = mp.meeting_id WHERE mp.meeting_id IN (:meetingIds) "
+            + "AND mp.status = 'ACTIVE'", nativeQuery = true)
+    int copyParticipants(@Param("meetingIds") Collection<Long> meetingIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_meeting_blocked_participants (meeting_id, user_id, blocker_id, blocked_at) "
+            + "SELECT meeting_id, user_id, blocker_id, blocked_at FROM meeting_participations "
+            + "WHERE meeting_id IN (:meetingIds) AND status = 'BLOCKED'", nativeQuery = true)
+    int copyBlockedParticipants(@Param("meetingIds") Collection<Long> meetingIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM meeting_waitlist WHERE meeting_id IN (:meetingIds)", nativeQuery = true)
+    int deleteLiveWaitlistEntries(@Param("meetingIds") Collection<Long> meetingIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM meeting_participations WHERE meeting_id IN (:meetingIds)", nativeQuery = true)
+    int deleteLiveParticipations(@Param("meetingIds") Collection<Long> meetingIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM meeting_meeting_types WHERE meeting_id IN (:meetingIds)", nativeQuery = true)
+    int deleteLiveMeetingTypes(@Param("meetingIds") Collection<Long> meetingIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM meetings WHERE id IN (:meetingIds)", nativeQuery = true)
+    int deleteLiveMeetings(@Param("meetingIds") Collection<Long> meetingIds);
+}
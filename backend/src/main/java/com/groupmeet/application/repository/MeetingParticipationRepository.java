@@ -0,0 +1,106 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.dto.MeetingParticipantDetailsDto;
+import com.groupmeet.application.model.MeetingParticipation;
+import com.groupmeet.application.model.ParticipationStatus;
+import com.groupmeet.application.model.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MeetingParticipationRepository
+        extends JpaRepository<MeetingParticipation, Long>, MeetingParticipationRepositoryCustom {
+
+    @Query("SELECT p.status FROM MeetingParticipation p WHERE p.meeting.id = :meetingId AND p.user.id = :userId")
+    Optional<ParticipationStatus> findStatus(@Param("meetingId") Long meetingId, @Param("userId") Long userId);
+
+    @Query("SELECT p.meeting.id, p.status FROM MeetingParticipation p WHERE p.user.username = :username")
+    List<Object[]> findMeetingStatusesByUsername(@Param("username") String username);
+
+    @Query("SELECT p.user.id FROM MeetingParticipation p WHERE p.meeting.id = :meetingId "
+            + "AND p.status = com.groupmeet.application.model.ParticipationStatus.ACTIVE")
+    List<Long> findActiveUserIds(@Param("meetingId") Long meetingId);
+
+    @Query("SELECT u.email FROM MeetingParticipation p JOIN p.user u WHERE p.meeting.id = :meetingId "
+            + "AND p.status = com.groupmeet.application.model.ParticipationStatus.ACTIVE")
+    List<String> findActiveUserEmails(@Param("meetingId") Long meetingId);
+
+    @Query("SELECT p.meeting.id, p.user.id FROM MeetingParticipation p WHERE p.meeting.id IN :meetingIds "
+            + "AND p.status = com.groupmeet.application.model.ParticipationStatus.ACTIVE")
+    List<Object[]> findActiveUserIdsByMeetingIds(@Param("meetingIds") Collection<Long> meetingIds);
+
+    @Query("SELECT p.user.id, p.status FROM MeetingParticipation p WHERE p.meeting.id = :meetingId "
+            + "AND p.user.id IN :userIds")
+    List<Object[]> findStatuses(@Param("meetingId") Long meetingId, @Param("userIds") Collection<Long> userIds);
+
+    // Organizer first, blocked users last, then by name; only the columns of the page are read.
+    // The pattern must escape its wildcards with a backslash.
+    @Query(value = "SELECT new com.groupmeet.application.dto.MeetingParticipantDetailsDto(u.id, u.username, "
+            + "u.firstName, u.lastName, u.avatarUrl, u.gender, "
+            + "CASE WHEN p.role = com.groupmeet.application.model.ParticipationRole.ORGANIZER THEN true ELSE false END, "
+            + "p.status, u.isPro) FROM MeetingParticipation p JOIN p.user u "
+            + "WHERE p.meeting.id = :meetingId AND p.status IN :statuses AND (LOWER(u.username) LIKE :pattern "
+            + "ESCAPE '\\' OR LOWER(u.firstName) LIKE :pattern ESCAPE '\\' "
+            + "OR LOWER(u.lastName) LIKE :pattern ESCAPE '\\') "
+            + "ORDER BY CASE WHEN p.role = com.groupmeet.application.model.ParticipationRole.ORGANIZER THEN 0 ELSE 1 END, "
+            + "CASE WHEN p.status = com.groupmeet.application.model.ParticipationStatus.BLOCKED THEN 1 ELSE 0 END, "
+            + "u.firstName, u.lastName, p.id",
+            countQuery = "SELECT COUNT(p) FROM MeetingParticipation p JOIN p.user u "
+                    + "WHERE p.meeting.id = :meetingId AND p.status IN :statuses AND (LOWER(u.username) LIKE :pattern "
+                    + "ESCAPE '\\' OR LOWER(u.firstName) LIKE :pattern ESCAPE '\\' "
+                    + "OR LOWER(u.lastName) LIKE :pattern ESCAPE '\\')")
+    Page<MeetingParticipantDetailsDto> findParticipants(@Param("meetingId") Long meetingId,
+            @Param("statuses") Collection<ParticipationStatus> statuses, @Param("pattern") String pattern,
+            Pageable pageable);
+
+    @Query("SELECT p.user FROM MeetingParticipation p WHERE p.meeting.id = :meetingId "
+            + "AND p.status = com.groupmeet.application.model.ParticipationStatus.ACTIVE "
+            + "AND p.role = com.groupmeet.application.model.ParticipationRole.PARTICIPANT "
+            + "ORDER BY p.joinedAt, p.id")
+    List<User> findParticipantPreview(@Param("meetingId") Long meetingId, Pageable pageable);
+
+    @Query("SELECT p.user.id FROM MeetingParticipation p WHERE p.meeting.id = :meetingId "
+            + "AND p.status = com.groupmeet.application.model.ParticipationStatus.ACTIVE "
+            + "AND p.role = com.groupmeet.application.model.ParticipationRole.PARTICIPANT "
+            + "ORDER BY p.joinedAt, p.id")
+    List<Long> findParticipantPreviewIds(@Param("meetingId") Long meetingId, Pageable pageable);
+
+    @Modifying
+    @Query(value = "UPDATE meeting_participations SET status = 'BLOCKED', blocker_id = :blockerId, "
+            + "blocked_at = CURRENT_TIMESTAMP WHERE meeting_id = :meetingId AND user_id = :userId "
+            + "AND status = 'ACTIVE'", nativeQuery = true)
+    int blockActiveParticipant(@Param("meetingId") Long meetingId, @Param("userId") Long userId,
+            @Param("blockerId") Long blockerId);
+
+    @Modifying
+    @Query(value = "INSERT INTO meeting_participations "
+            + "(meeting_id, user_id, status, role, joined_at, blocker_id, blocked_at, meeting_date_time) VALUES "
+            + "(:meetingId, :userId, 'BLOCKED', 'PARTICIPANT', CURRENT_TIMESTAMP, :blockerId, CURRENT_TIMESTAMP, "
+            + "(SELECT date_time FROM meetings WHERE id = :meetingId))",
+            nativeQuery = true)
+    void insertBlocked(@Param("meetingId") Long meetingId, @Param("userId") Long userId,
+            @Param("blockerId") Long blockerId);
+
+    @Modifying
+    @Query("UPDATE MeetingParticipation p SET p.meetingDateTime = :dateTime WHERE p.meeting.id = :meetingId")
+    int updateMeetingDateTime(@Param("meetingId") Long meetingId, @Param("dateTime") LocalDateTime dateTime);
+
+    @Modifying
+    @Query(value = "DELETE FROM meeting_participations WHERE meeting_id = :meetingId AND user_id = :userId "
+            + "AND status = 'BLOCKED'", nativeQuery = true)
+    int deleteBlocked(@Param("meetingId") Long meetingId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM meeting_participations WHERE meeting_id IN (:meetingIds)", nativeQuery = true)
+    int deleteByMeetingIds(@Param("meetingIds") Collection<Long> meetingIds);
+}
@@ -0,0 +1,7 @@
+package com.groupmeet.application.repository;
+
+import java.util.List;
+
+public interface MeetingParticipationRepositoryCustom {
+    void insertParticipants(Long meetingId, List<Long> userIds);
+}
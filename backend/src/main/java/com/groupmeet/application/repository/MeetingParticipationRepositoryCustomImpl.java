@@ -0,0 +1,30 @@
+package com.groupmeet.application.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class MeetingParticipationRepositoryCustomImpl implements MeetingParticipationRepositoryCustom {
+
+    private static final int INSERT_BATCH_SIZE = 100;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertParticipants(Long meetingId, List<Long> userIds) {
+        Timestamp joinedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("INSERT INTO meeting_participations "
+                + "(meeting_id, user_id, status, role, joined_at, meeting_date_time) "
+                + "VALUES (?, ?, 'ACTIVE', 'PARTICIPANT', ?, (SELECT date_time FROM meetings WHERE id = ?))",
+                userIds, INSERT_BATCH_SIZE, (ps, userId) -> {
+                    ps.setLong(1, meetingId);
+                    ps.setLong(2, userId);
+                    ps.setTimestamp(3, joinedAt);
+                    ps.setLong(4, meetingId);
+                });
+    }
+}
@@ -1,23 +1,25 @@
 package com.groupmeet.application.repository;
 
 import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingReminder;
+import com.groupmeet.application.model.MeetingStatus;
 import com.groupmeet.application.model.User;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface MeetingRepository extends JpaRepository<Meeting, Long>, JpaSpecificationExecutor<Meeting> {
-
-     @Query("SELECT m FROM Meeting m JOIN m.participants p WHERE p = :user ORDER BY m.dateTime ASC")
-    Page<Meeting> findMeetingsByParticipantOrderByDateTimeAsc(@Param("user") User user, Pageable pageable);
+public interface MeetingRepository
+        extends JpaRepository<Meeting, Long>, JpaSpecificationExecutor<Meeting>, MeetingRepositoryCustom {
 
     long countByCreatorAndDateTimeBetween(User creator, LocalDateTime startDateTime, LocalDateTime endDateTime);
 
@@ -29,7 +31,137 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long>, JpaSpec
         @Param("excludeMeetingId") Long excludeMeetingId
     );
     
-    @Query("SELECT COUNT(m) FROM Meeting m JOIN m.participants p WHERE p = :user AND m.dateTime > :now")
+    @Query("SELECT COUNT(p) FROM MeetingParticipation p WHERE p.user = :user "
+            + "AND p.status = com.groupmeet.application.model.ParticipationStatus.ACTIVE AND p.meeting.dateTime > :now")
     long countActiveMeetingsUserIsParticipantIn(@Param("user") User user, @Param("now") LocalDateTime now);
 
+    @Query("SELECT p.user.id, COUNT(p) FROM MeetingParticipation p WHERE p.user.id IN :userIds "
+            + "AND p.status = com.groupmeet.application.model.ParticipationStatus.ACTIVE AND p.meeting.dateTime > :now "
+            + "GROUP BY p.user.id")
+    List<Object[]> countActiveMeetingsByParticipants(@Param("userIds") Collection<Long> userIds,
+            @Param("now") LocalDateTime now);
+
+    @Query("SELECT m.id, m.title, m.description, m.dateTime FROM Meeting m WHERE m.dateTime >= :notBefore")
+    List<Object[]> findSearchableTextNotBefore(@Param("notBefore") LocalDateTime notBefore);
+
+    @Query("SELECT m.id, m.format, m.location, m.dateTime FROM Meeting m WHERE m.dateTime >= :notBefore")
+    List<Object[]> findFacetFieldsNotBefore(@Param("notBefore") LocalDateTime notBefore);
+
+    @Query("SELECT m.id, t.name FROM Meeting m JOIN m.meetingTypes t WHERE m.dateTime >= :notBefore")
+    List<Object[]> findTypeNamesNotBefore(@Param("notBefore") LocalDateTime notBefore);
+
+    @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END FROM MeetingParticipation p "
+            + "WHERE p.meeting.id = :meetingId AND p.user.id = :userId "
+            + "AND p.status = com.groupmeet.application.model.ParticipationStatus.ACTIVE")
+    boolean isParticipant(@Param("meetingId") Long meetingId, @Param("userId") Long userId);
+
+    @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END FROM MeetingParticipation p "
+            + "WHERE p.meeting.id = :meetingId AND p.user.username = :username "
+            + "AND p.status = com.groupmeet.application.model.ParticipationStatus.ACTIVE")
+    boolean isParticipantByUsername(@Param("meetingId") Long meetingId, @Param("username") String username);
+
+    @Query("SELECT p.meeting.id FROM MeetingParticipation p WHERE p.meeting.id IN :meetingIds "
+            + "AND p.user.username = :username "
+            + "AND p.status = com.groupmeet.application.model.ParticipationStatus.ACTIVE")
+    List<Long> findParticipatingMeetingIds(@Param("meetingIds") Collection<Long> meetingIds,
+            @Param("username") String username);
+
+    @Query("SELECT DISTINCT m FROM Meeting m JOIN FETCH m.creator LEFT JOIN FETCH m.meetingTypes "
+            + "WHERE m.id IN :meetingIds")
+    List<Meeting> findWithCreatorAndTypesByIds(@Param("meetingIds") Collection<Long> meetingIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO meeting_participations "
+            + "(meeting_id, user_id, status, role, joined_at, meeting_date_time) "
+            + "VALUES (:meetingId, :userId, 'ACTIVE', 'PARTICIPANT', CURRENT_TIMESTAMP, "
+            + "(SELECT date_time FROM meetings WHERE id = :meetingId))", nativeQuery = true)
+    void insertParticipant(@Param("meetingId") Long meetingId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM meeting_participations WHERE meeting_id = :meetingId AND user_id = :userId "
+            + "AND status = 'ACTIVE'", nativeQuery = true)
+    int deleteParticipant(@Param("meetingId") Long meetingId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE Meeting m SET m.participantCount = m.participantCount + :delta WHERE m.id = :meetingId")
+    int adjustParticipantCount(@Param("meetingId") Long meetingId, @Param("delta") int delta);
+
+    // Takes a seat only while the meeting has capacity left; the row lock serializes joins per meeting
+    @Modifying
+    @Query("UPDATE Meeting m SET m.participantCount = m.participantCount + 1 WHERE m.id = :meetingId "
+            + "AND (m.maxParticipants IS NULL OR m.participantCount < m.maxParticipants)")
+    int reserveSeat(@Param("meetingId") Long meetingId);
+
+    @Modifying
+    @Query("UPDATE Meeting m SET m.participantCount = m.participantCount + :seats WHERE m.id = :meetingId "
+            + "AND (m.maxParticipants IS NULL OR m.participantCount + :seats <= m.maxParticipants)")
+    int reserveSeats(@Param("meetingId") Long meetingId, @Param("seats") int seats);
+
+    @Modifying
+    @Query("UPDATE Meeting m SET m.maxParticipants = :maxParticipants WHERE m.id = :meetingId "
+            + "AND m.participantCount <= :maxParticipants")
+    int updateMaxParticipantsIfFits(@Param("meetingId") Long meetingId,
+            @Param("maxParticipants") int maxParticipants);
+
+    @Query("SELECT m.id, m.dateTime, m.status FROM Meeting m "
+            + "WHERE m.status <> com.groupmeet.application.model.MeetingStatus.COMPLETED")
+    List<Object[]> findLifecycleStateNotCompleted();
+
+    @Modifying
+    @Query("UPDATE Meeting m SET m.status = :status WHERE m.id = :meetingId AND m.status IN :expected "
+            + "AND m.dateTime <= :latestStart")
+    int transitionStatus(@Param("meetingId") Long meetingId, @Param("expected") Collection<MeetingStatus> expected,
+            @Param("status") MeetingStatus status, @Param("latestStart") LocalDateTime latestStart);
+
+    @Query("SELECT m.id FROM Meeting m WHERE m.status = com.groupmeet.application.model.MeetingStatus.UPCOMING "
+            + "AND m.dateTime > :from AND m.dateTime <= :to "
+            + "AND (m.lastReminder IS NULL OR m.lastReminder <> :reminder) ORDER BY m.dateTime")
+    List<Long> findIdsDueForReminder(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("reminder") MeetingReminder reminder);
+
+    @Modifying
+    @Query("UPDATE Meeting m SET m.lastReminder = :reminder WHERE m.id = :meetingId "
+            + "AND (m.lastReminder IS NULL OR m.lastReminder <> :reminder)")
+    int claimReminder(@Param("meetingId") Long meetingId, @Param("reminder") MeetingReminder reminder);
+
+    @Modifying
+    @Query("UPDATE Meeting m SET m.lastReminder = NULL WHERE m.id = :meetingId")
+    int resetReminder(@Param("meetingId") Long meetingId);
+
+    @Query("SELECT m.participantPreview FROM Meeting m WHERE m.id = :meetingId")
+    String findParticipantPreview(@Param("meetingId") Long meetingId);
+
+    @Modifying
+    @Query("UPDATE Meeting m SET m.participantPreview = :preview WHERE m.id = :meetingId")
+    int updateParticipantPreview(@Param("meetingId") Long meetingId, @Param("preview") String preview);
+
+    @Query("SELECT m.creator.id FROM Meeting m WHERE m.id = :meetingId")
+    Optional<Long> findCreatorId(@Param("meetingId") Long meetingId);
+
+    @Query("SELECT m.id, m.title, m.description, m.format, m.location, m.dateTime, m.creator.id FROM Meeting m "
+            + "WHERE m.id IN :meetingIds")
+    List<Object[]> findDeletionState(@Param("meetingIds") Collection<Long> meetingIds);
+
+    @Query("SELECT m.id, t.name FROM Meeting m JOIN m.meetingTypes t WHERE m.id IN :meetingIds")
+    List<Object[]> findTypeNames(@Param("meetingIds") Collection<Long> meetingIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM meeting_meeting_types WHERE meeting_id IN (:meetingIds)", nativeQuery = true)
+    int deleteMeetingTypes(@Param("meetingIds") Collection<Long> meetingIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM meetings WHERE id IN (:meetingIds)", nativeQuery = true)
+    int deleteByIds(@Param("meetingIds") Collection<Long> meetingIds);
+
+    @Query(value = "SELECT m.id, m.participant_count, COUNT(mp.user_id) FROM meetings m "
+            + "LEFT JOIN meeting_participations mp ON mp.meeting_id = m.id AND mp.status = 'ACTIVE' "
+            + "GROUP BY m.id, m.participant_count HAVING m.participant_count <> COUNT(mp.user_id)", nativeQuery = true)
+    List<Object[]> findParticipantCountDrift();
+
+    @Modifying
+    @Query(value = "UPDATE meetings SET participant_count = "
+            + "(SELECT COUNT(*) FROM meeting_participations mp WHERE mp.meeting_id = meetings.id AND mp.status = 'ACTIVE') "
+            + "WHERE id IN (:meetingIds)", nativeQuery = true)
+    int recalculateParticipantCounts(@Param("meetingIds") Collection<Long> meetingIds);
+
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.dto.MeetingDto;
+import com.groupmeet.application.dto.UserProfileMeetingDto;
+import com.groupmeet.application.model.Meeting;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface MeetingRepositoryCustom {
+    Page<MeetingDto> findMeetingSummaries(Specification<Meeting> spec, Pageable pageable);
+
+    List<MeetingDto> findMeetingSummariesAfterCursor(Specification<Meeting> spec, LocalDateTime afterDateTime,
+            Long afterId, int limit);
+
+    List<MeetingDto> findMeetingSummariesByIds(Collection<Long> meetingIds);
+
+    List<Long> findMeetingIds(Specification<Meeting> spec, Sort sort);
+
+    void forEachMeetingSummaryBatch(Specification<Meeting> spec, int batchSize, Consumer<List<MeetingDto>> consumer);
+
+    Page<UserProfileMeetingDto> findParticipatedMeetingsIncludingArchive(Long userId, Pageable pageable);
+
+    List<UserProfileMeetingDto> findUpcomingParticipatedMeetings(Long userId, LocalDateTime from,
+            LocalDateTime afterDateTime, Long afterId, int limit);
+
+    List<UserProfileMeetingDto> findPastParticipatedMeetingsIncludingArchive(Long userId, LocalDateTime before,
+            LocalDateTime afterDateTime, Long afterId, int limit);
+}
@@ -0,0 +1,372 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.dto.MeetingDto;
+import com.groupmeet.application.dto.UserProfileMeetingDto;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Repository
+public class MeetingRepositoryCustomImpl implements MeetingRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<MeetingDto> findMeetingSummaries(Specification<Meeting> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<Meeting> meetingRoot = cq.from(Meeting.class);
+        selectSummaryColumns(cq, meetingRoot);
+        Predicate specPredicate = spec.toPredicate(meetingRoot, cq, cb);
+        if (specPredicate != null) {
+            cq.where(specPredicate);
+        }
+
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            Path<?> propertyPath = meetingRoot.get(order.getProperty());
+            orders.add(order.isAscending() ? cb.asc(propertyPath) : cb.desc(propertyPath));
+        }
+        orders.add(cb.asc(meetingRoot.get("id")));
+        cq.orderBy(orders);
+
+        TypedQuery<Tuple> query = entityManager.createQuery(cq);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<MeetingDto> content = toSummaries(query.getResultList());
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> countMeetings(spec));
+    }
+
+    @Override
+    public List<MeetingDto> findMeetingSummariesAfterCursor(Specification<Meeting> spec, LocalDateTime afterDateTime,
+            Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<Meeting> meetingRoot = cq.from(Meeting.class);
+        selectSummaryColumns(cq, meetingRoot);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate specPredicate = spec.toPredicate(meetingRoot, cq, cb);
+        if (specPredicate != null) {
+            predicates.add(specPredicate);
+        }
+
+        // Seek past the last row of the previous page instead of skipping rows with an offset
+        if (afterDateTime != null && afterId != null) {
+            Path<LocalDateTime> dateTimePath = meetingRoot.get("dateTime");
+            Path<Long> idPath = meetingRoot.get("id");
+            predicates.add(cb.or(
+                    cb.greaterThan(dateTimePath, afterDateTime),
+                    cb.and(cb.equal(dateTimePath, afterDateTime), cb.greaterThan(idPath, afterId))));
+        }
+
+        cq.where(predicates.toArray(new Predicate[0]));
+        cq.orderBy(cb.asc(meetingRoot.get("dateTime")), cb.asc(meetingRoot.get("id")));
+
+        List<Tuple> rows = entityManager.createQuery(cq)
+                .setMaxResults(limit)
+                .getResultList();
+        return toSummaries(rows);
+    }
+
+    @Override
+    public List<MeetingDto> findMeetingSummariesByIds(Collection<Long> meetingIds) {
+        if (meetingIds.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<Meeting> meetingRoot = cq.from(Meeting.class);
+        selectSummaryColumns(cq, meetingRoot);
+        cq.where(meetingRoot.get("id").in(meetingIds));
+
+        return toSummaries(entityManager.createQuery(cq).getResultList());
+    }
+
+    @Override
+    public List<Long> findMeetingIds(Specification<Meeting> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<Meeting> meetingRoot = cq.from(Meeting.class);
+        Predicate specPredicate = spec.toPredicate(meetingRoot, cq, cb);
+        if (specPredicate != null) {
+            cq.where(specPredicate);
+        }
+        cq.select(meetingRoot.get("id"));
+
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Path<?> propertyPath = meetingRoot.get(order.getProperty());
+            orders.add(order.isAscending() ? cb.asc(propertyPath) : cb.desc(propertyPath));
+        }
+        orders.add(cb.asc(meetingRoot.get("id")));
+        cq.orderBy(orders);
+
+        return entityManager.createQuery(cq).getResultList();
+    }
+
+    // Rows come from a forward-only cursor, so only the current batch is ever held in memory
+    @Override
+    public void forEachMeetingSummaryBatch(Specification<Meeting> spec, int batchSize,
+            Consumer<List<MeetingDto>> consumer) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<Meeting> meetingRoot = cq.from(Meeting.class);
+        selectSummaryColumns(cq, meetingRoot);
+        Predicate specPredicate = spec.toPredicate(meetingRoot, cq, cb);
+        if (specPredicate != null) {
+            cq.where(specPredicate);
+        }
+        cq.orderBy(cb.asc(meetingRoot.get("dateTime")), cb.asc(meetingRoot.get("id")));
+
+        List<Tuple> batch = new ArrayList<>(batchSize);
+        try (Stream<Tuple> rows = entityManager.createQuery(cq)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, batchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            Iterator<Tuple> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize) {
+                    consumer.accept(toSummaries(batch));
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(toSummaries(batch));
+        }
+    }
+
+    // Completed meetings may already have been moved to the archive tables, so both are read together.
+    // Each side reads at most offset + size rows of the user from its timeline index before they are merged.
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<UserProfileMeetingDto> findParticipatedMeetingsIncludingArchive(Long userId, Pageable pageable) {
+        List<Object[]> rows = entityManager.createNativeQuery(
+                "SELECT id, title, date_time, location, format, status FROM ("
+                        + " SELECT * FROM (SELECT m.id, m.title, mp.meeting_date_time AS date_time, m.location,"
+                        + " m.format, m.status FROM meeting_participations mp JOIN meetings m ON m.id = mp.meeting_id"
+                        + " WHERE mp.user_id = :userId AND mp.status = 'ACTIVE'"
+                        + " ORDER BY mp.meeting_date_time ASC, mp.meeting_id ASC LIMIT :limit) live"
+                        + " UNION ALL"
+                        + " SELECT * FROM (SELECT a.id, a.title, ap.date_time, a.location, a.format,"
+                        + " 'COMPLETED' AS status FROM archived_meeting_participants ap"
+                        + " JOIN archived_meetings a ON a.id = ap.meeting_id WHERE ap.user_id = :userId"
+                        + " ORDER BY ap.date_time ASC, ap.meeting_id ASC LIMIT :limit) archived"
+                        + ") participated ORDER BY date_time ASC, id ASC")
+                .setParameter("userId", userId)
+                .setParameter("limit", pageable.getOffset() + pageable.getPageSize())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // Both counts only read the user's entries of the timeline indexes, and are skipped on a short page
+        return PageableExecutionUtils.getPage(toProfileMeetings(rows), pageable, () -> ((Number) entityManager
+                .createNativeQuery("SELECT (SELECT COUNT(*) FROM meeting_participations"
+                        + " WHERE user_id = :userId AND status = 'ACTIVE')"
+                        + " + (SELECT COUNT(*) FROM archived_meeting_participants WHERE user_id = :userId)")
+                .setParameter("userId", userId)
+                .getSingleResult()).longValue());
+    }
+
+    // Reads the user's memberships in date order from idx_meeting_participations_user_timeline
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<UserProfileMeetingDto> findUpcomingParticipatedMeetings(Long userId, LocalDateTime from,
+            LocalDateTime afterDateTime, Long afterId, int limit) {
+        boolean seek = afterDateTime != null && afterId != null;
+        Query query = entityManager.createNativeQuery(
+                "SELECT m.id, m.title, mp.meeting_date_time, m.location, m.format, m.status"
+                        + " FROM meeting_participations mp JOIN meetings m ON m.id = mp.meeting_id"
+                        + " WHERE mp.user_id = :userId AND mp.status = 'ACTIVE' AND mp.meeting_date_time >= :from"
+                        + (seek ? " AND (mp.meeting_date_time > :afterDateTime"
+                                + " OR (mp.meeting_date_time = :afterDateTime AND mp.meeting_id > :afterId))" : "")
+                        + " ORDER BY mp.meeting_date_time ASC, mp.meeting_id ASC")
+                .setParameter("userId", userId)
+                .setParameter("from", from);
+        if (seek) {
+            query.setParameter("afterDateTime", afterDateTime).setParameter("afterId", afterId);
+        }
+        return toProfileMeetings(query.setMaxResults(limit).getResultList());
+    }
+
+    // Newest first; past meetings may still be live or already archived. Both sides seek and stop
+    // in their own timeline index, so only the rows of one page are read from each.
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<UserProfileMeetingDto> findPastParticipatedMeetingsIncludingArchive(Long userId,
+            LocalDateTime before, LocalDateTime afterDateTime, Long afterId, int limit) {
+        boolean seek = afterDateTime != null && afterId != null;
+        Query query = entityManager.createNativeQuery(
+                "SELECT id, title, date_time, location, format, status FROM ("
+                        + " SELECT * FROM (SELECT m.id, m.title, mp.meeting_date_time AS date_time, m.location,"
+                        + " m.format, m.status FROM meeting_participations mp JOIN meetings m ON m.id = mp.meeting_id"
+                        + " WHERE mp.user_id = :userId AND mp.status = 'ACTIVE' AND mp.meeting_date_time < :before"
+                        + (seek ? " AND (mp.meeting_date_time < :afterDateTime"
+                                + " OR (mp.meeting_date_time = :afterDateTime AND mp.meeting_id < :afterId))" : "")
+                        + " ORDER BY mp.meeting_date_time DESC, mp.meeting_id DESC LIMIT :limit) live"
+                        + " UNION ALL"
+                        + " SELECT * FROM (SELECT a.id, a.title, ap.date_time, a.location, a.format,"
+                        + " 'COMPLETED' AS status FROM archived_meeting_participants ap"
+                        + " JOIN archived_meetings a ON a.id = ap.meeting_id"
+                        + " WHERE ap.user_id = :userId AND ap.date_time < :before"
+                        + (seek ? " AND (ap.date_time < :afterDateTime"
+                                + " OR (ap.date_time = :afterDateTime AND ap.meeting_id < :afterId))" : "")
+                        + " ORDER BY ap.date_time DESC, ap.meeting_id DESC LIMIT :limit) archived"
+                        + ") participated ORDER BY date_time DESC, id DESC")
+                .setParameter("userId", userId)
+                .setParameter("before", before)
+                .setParameter("limit", limit);
+        if (seek) {
+            query.setParameter("afterDateTime", afterDateTime).setParameter("afterId", afterId);
+        }
+        return toProfileMeetings(query.setMaxResults(limit).getResultList());
+    }
+
+    // Maps id, title, date_time, location, format and status rows and loads their types in one query
+    private List<UserProfileMeetingDto> toProfileMeetings(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> meetingIds = rows.stream().map(row -> ((Number) row[0]).longValue()).toList();
+        Map<Long, List<String>> typeNames = new HashMap<>();
+        List<Object[]> typeRows = entityManager.createNativeQuery(
+                "SELECT mt.meeting_id, i.name FROM meeting_meeting_types mt"
+                        + " JOIN interests i ON i.id = mt.interest_id WHERE mt.meeting_id IN (:ids)"
+                        + " UNION ALL"
+                        + " SELECT amt.meeting_id, i.name FROM archived_meeting_meeting_types amt"
+                        + " JOIN interests i ON i.id = amt.interest_id WHERE amt.meeting_id IN (:ids)")
+                .setParameter("ids", meetingIds)
+                .getResultList();
+        typeRows.forEach(row -> typeNames.computeIfAbsent(((Number) row[0]).longValue(), id -> new ArrayList<>())
+                .add((String) row[1]));
+
+        List<UserProfileMeetingDto> content = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Long meetingId = ((Number) row[0]).longValue();
+            UserProfileMeetingDto dto = new UserProfileMeetingDto();
+            dto.setId(meetingId);
+            dto.setTitle((String) row[1]);
+            dto.setDateTime(toLocalDateTime(row[2]));
+            dto.setLocation((String) row[3]);
+            dto.setFormat(row[4] != null ? MeetingFormat.valueOf(row[4].toString()) : null);
+            dto.setMeetingTypeNames(typeNames.getOrDefault(meetingId, List.of()));
+            dto.setStatus(row[5] != null ? row[5].toString() : null);
+            content.add(dto);
+        }
+        return content;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    private long countMeetings(Specification<Meeting> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> countCq = cb.createQuery(Long.class);
+        Root<Meeting> countRoot = countCq.from(Meeting.class);
+        Predicate specPredicate = spec.toPredicate(countRoot, countCq, cb);
+        if (specPredicate != null) {
+            countCq.where(specPredicate);
+        }
+        countCq.select(cb.count(countRoot));
+
+        return entityManager.createQuery(countCq).getSingleResult();
+    }
+
+    private void selectSummaryColumns(CriteriaQuery<Tuple> cq, Root<Meeting> meetingRoot) {
+        Join<Meeting, User> creatorJoin = meetingRoot.join("creator", JoinType.INNER);
+        cq.multiselect(
+                meetingRoot.get("id").alias("id"),
+                meetingRoot.get("title").alias("title"),
+                meetingRoot.get("description").alias("description"),
+                meetingRoot.get("format").alias("format"),
+                meetingRoot.get("location").alias("location"),
+                meetingRoot.get("dateTime").alias("dateTime"),
+                meetingRoot.get("maxParticipants").alias("maxParticipants"),
+                meetingRoot.get("participantCount").alias("participantCount"),
+                meetingRoot.get("createdAt").alias("createdAt"),
+                creatorJoin.get("username").alias("creatorUsername"));
+    }
+
+    // Type names for the whole page are loaded with a single IN query
+    private List<MeetingDto> toSummaries(List<Tuple> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> meetingIds = rows.stream().map(row -> row.get("id", Long.class)).toList();
+
+        Map<Long, List<String>> typeNames = new HashMap<>();
+        entityManager.createQuery(
+                "SELECT m.id, t.name FROM Meeting m JOIN m.meetingTypes t WHERE m.id IN :ids ORDER BY t.name",
+                Object[].class)
+                .setParameter("ids", meetingIds)
+                .getResultList()
+                .forEach(row -> typeNames.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]));
+
+        List<MeetingDto> summaries = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Long meetingId = row.get("id", Long.class);
+            MeetingDto dto = new MeetingDto();
+            dto.setId(meetingId);
+            dto.setTitle(row.get("title", String.class));
+            dto.setDescription(row.get("description", String.class));
+            dto.setFormat(row.get("format", MeetingFormat.class));
+            dto.setLocation(row.get("location", String.class));
+            dto.setDateTime(row.get("dateTime", LocalDateTime.class));
+            dto.setMaxParticipants(row.get("maxParticipants", Integer.class));
+            dto.setCreatedAt(row.get("createdAt", LocalDateTime.class));
+            dto.setCreatorUsername(row.get("creatorUsername", String.class));
+            dto.setParticipantCount(row.get("participantCount", Integer.class));
+            dto.setMeetingTypeNames(typeNames.getOrDefault(meetingId, List.of()));
+            summaries.add(dto);
+        }
+        return summaries;
+    }
+}
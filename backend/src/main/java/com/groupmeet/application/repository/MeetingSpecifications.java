@@ -0,0 +1,87 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.dto.MeetingSearchCriteriaDto;
+import com.groupmeet.application.model.Interest;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public final class MeetingSpecifications {
+
+    private MeetingSpecifications() {
+    }
+
+    public static Specification<Meeting> matchingCriteria(MeetingSearchCriteriaDto criteria, LocalDateTime notBefore) {
+        return matchingCriteria(criteria, requestedLocation(criteria), notBefore);
+    }
+
+    /**
+     * Builds the search filter shared by the offset and the cursor based meeting search. The free-text
+     * search term is resolved through the in-memory search index and is not part of this specification.
+     *
+     * @param criteria the search criteria from the request
+     * @param locationNames lowercase location names a meeting may have, or null for any location
+     * @param notBefore meetings starting before this point in time are excluded
+     * @return the specification matching all active criteria
+     */
+    public static Specification<Meeting> matchingCriteria(MeetingSearchCriteriaDto criteria,
+            Collection<String> locationNames, LocalDateTime notBefore) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (criteria.getTypes() != null && !criteria.getTypes().isEmpty()) {
+                // A subquery keeps one row per meeting, so neither DISTINCT nor a distinct count is needed
+                Subquery<Long> typeMatches = query.subquery(Long.class);
+                Root<Meeting> typedMeeting = typeMatches.from(Meeting.class);
+                Join<Meeting, Interest> meetingTypeJoin = typedMeeting.joinSet("meetingTypes", JoinType.INNER);
+                typeMatches.select(typedMeeting.get("id"))
+                        .where(meetingTypeJoin.get("name").in(criteria.getTypes()));
+                predicates.add(root.get("id").in(typeMatches));
+            }
+
+            if (locationNames != null) {
+                if (criteria.getFormat() == null || criteria.getFormat() == MeetingFormat.OFFLINE) {
+                    predicates.add(criteriaBuilder.lower(root.get("location")).in(locationNames));
+                }
+            }
+
+            if (criteria.getFormat() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("format"), criteria.getFormat()));
+            }
+
+            if (criteria.getStartDate() != null) {
+                LocalDateTime startDateTime = criteria.getStartDate().atTime(LocalTime.MIN);
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("dateTime"), startDateTime));
+            }
+
+            if (criteria.getEndDate() != null) {
+                LocalDateTime endDateTime = criteria.getEndDate().atTime(LocalTime.MAX);
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("dateTime"), endDateTime));
+            }
+
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("dateTime"), notBefore));
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * @return the lowercase location from the criteria, or null if none was requested
+     */
+    public static Set<String> requestedLocation(MeetingSearchCriteriaDto criteria) {
+        return StringUtils.hasText(criteria.getLocation()) ? Set.of(criteria.getLocation().toLowerCase()) : null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.model.MeetingWaitlistEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MeetingWaitlistRepository extends JpaRepository<MeetingWaitlistEntry, Long> {
+    boolean existsByMeeting_Id(Long meetingId);
+    boolean existsByMeeting_IdAndUser_Id(Long meetingId, Long userId);
+    Optional<MeetingWaitlistEntry> findByMeeting_IdAndUser_Id(Long meetingId, Long userId);
+    long countByMeeting_Id(Long meetingId);
+    List<MeetingWaitlistEntry> findByMeeting_IdOrderByIdAsc(Long meetingId, Pageable pageable);
+
+    @Query("SELECT COUNT(w) FROM MeetingWaitlistEntry w WHERE w.meeting.id = :meetingId AND w.id <= :entryId")
+    long countUpToEntry(@Param("meetingId") Long meetingId, @Param("entryId") Long entryId);
+
+    @Query("SELECT DISTINCT w.meeting.id FROM MeetingWaitlistEntry w "
+            + "WHERE w.meeting.maxParticipants IS NULL OR w.meeting.participantCount < w.meeting.maxParticipants")
+    List<Long> findMeetingIdsWithFreeSeats();
+
+    @Modifying
+    @Query(value = "DELETE FROM meeting_waitlist WHERE meeting_id = :meetingId AND user_id = :userId", nativeQuery = true)
+    int deleteEntry(@Param("meetingId") Long meetingId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM meeting_waitlist WHERE meeting_id = :meetingId AND user_id IN (:userIds)",
+            nativeQuery = true)
+    int deleteEntries(@Param("meetingId") Long meetingId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM meeting_waitlist WHERE meeting_id IN (:meetingIds)", nativeQuery = true)
+    int deleteByMeetingIds(@Param("meetingIds") Collection<Long> meetingIds);
+}
@@ -10,6 +10,11 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
 @Service
 public class EmailService {
 
@@ -18,12 +23,17 @@ public class EmailService {
     @Autowired
     private JavaMailSender javaMailSender;
 
+    @Autowired
+    private MailOutbox mailOutbox;
+
     @Value("${app.mail.sender.address}")
     private String senderEmail;
 
     @Value("${cors.production.url:cors.local.url}")
     private String baseUrl;
 
+    private static final DateTimeFormatter REMINDER_DATE_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy 'um' HH:mm 'Uhr'");
+
     @Async
     public void sendPasswordResetEmail(String to, String token) {
         try {
@@ -52,4 +62,41 @@ public class EmailService {
                     to, e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Queues one reminder per recipient in the mail outbox.
+     *
+     * @return how many reminders were queued
+     */
+    public int sendMeetingReminders(List<String> recipients, Long meetingId, String title, LocalDateTime dateTime,
+            String location) {
+        String text = "Hallo,\n\n"
+                + "Ihr Meeting \"" + title + "\" beginnt " + reminderDay(dateTime.toLocalDate()) + "am "
+                + dateTime.format(REMINDER_DATE_FORMAT) + ".\n"
+                + (location != null && !location.isBlank() ? "Ort: " + location + "\n" : "")
+                + "Details: " + baseUrl + "/groups/" + meetingId + "\n\n"
+                + "Mit freundlichen Grüßen,\nDas GroupMeet-Team";
+
+        List<SimpleMailMessage> messages = recipients.stream().map(to -> {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(senderEmail);
+            message.setTo(to);
+            message.setSubject("GroupMeet - Erinnerung: " + title);
+            message.setText(text);
+            return message;
+        }).toList();
+        return mailOutbox.enqueue(messages);
+    }
+
+    // Worded from the date itself, since a reminder can go out anywhere within its window
+    private static String reminderDay(LocalDate date) {
+        LocalDate today = LocalDate.now();
+        if (date.equals(today)) {
+            return "heute, ";
+        }
+        if (date.equals(today.plusDays(1))) {
+            return "morgen, ";
+        }
+        return "";
+    }
+}
@@ -33,6 +33,9 @@ public class FriendService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private QuotaService quotaService;
+
     private static final int MAX_FRIENDS_FOR_FREE_USER = 10;
 
     @Transactional(readOnly = true)
@@ -89,6 +92,8 @@ public class FriendService {
 
         if (friendshipOpt.isPresent()) {
             friendshipRepository.delete(friendshipOpt.get());
+            quotaService.friendsChanged(currentUser.getId(), -1);
+            quotaService.friendsChanged(friendToRemove.getId(), -1);
             logger.info("Benutzer {} hat Freund {}(ID:{}) entfernt", currentUsername, friendToRemove.getUsername(),
                     friendIdToRemove);
         } else {
@@ -139,7 +144,7 @@ public class FriendService {
         }
 
         if (!currentUser.isPro()) {
-            long friendCountSender = friendshipRepository.countAcceptedFriendsForUser(currentUser);
+            long friendCountSender = quotaService.getFriends(currentUser);
             if (friendCountSender >= MAX_FRIENDS_FOR_FREE_USER) {
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Du hast das Limit von "
                         + MAX_FRIENDS_FOR_FREE_USER
@@ -147,7 +152,7 @@ public class FriendService {
             }
         }
         if (!targetUser.isPro()) {
-            long friendCountTarget = friendshipRepository.countAcceptedFriendsForUser(targetUser);
+            long friendCountTarget = quotaService.getFriends(targetUser);
             if (friendCountTarget >= MAX_FRIENDS_FOR_FREE_USER) {
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN,
                         "Dieser Benutzer hat das Limit für kostenlose Konten von " + MAX_FRIENDS_FOR_FREE_USER
@@ -192,7 +197,7 @@ public class FriendService {
         }
 
         if (!currentUser.isPro()) {
-            long friendCountAcceptor = friendshipRepository.countAcceptedFriendsForUser(currentUser);
+            long friendCountAcceptor = quotaService.getFriends(currentUser);
             if (friendCountAcceptor >= MAX_FRIENDS_FOR_FREE_USER) {
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN,
                         "Du hast das Limit von " + MAX_FRIENDS_FOR_FREE_USER
@@ -202,7 +207,7 @@ public class FriendService {
 
         User sender = friendship.getUserOne();
         if (!sender.isPro()) {
-            long friendCountSender = friendshipRepository.countAcceptedFriendsForUser(sender);
+            long friendCountSender = quotaService.getFriends(sender);
             if (friendCountSender >= MAX_FRIENDS_FOR_FREE_USER) {
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN,
                         "Der anfragende Benutzer hat sein Freundeslimit (" + MAX_FRIENDS_FOR_FREE_USER
@@ -212,6 +217,8 @@ public class FriendService {
 
         friendship.setStatus(FriendshipStatus.ACCEPTED);
         friendshipRepository.save(friendship);
+        quotaService.friendsChanged(currentUser.getId(), 1);
+        quotaService.friendsChanged(sender.getId(), 1);
         logger.info("Benutzer {} hat die Freundschaftsanfrage ID {} von Benutzer {} angenommen", currentUsername,
                 requestId, friendship.getUserOne().getUsername());
     }
@@ -0,0 +1,88 @@
+package com.groupmeet.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Tokenizes German free text for the meeting search index: lowercases with German rules,
+ * folds umlauts, their typed spellings "ae", "oe", "ue" and sharp s, and strips common
+ * inflection suffixes.
+ */
+public final class GermanTextAnalyzer {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Longest suffixes first so "ungen" wins over "en"
+    private static final String[] SUFFIXES = { "ungen", "ung", "ern", "em", "en", "er", "es", "e", "n", "s" };
+    private static final int MIN_STEM_LENGTH = 3;
+
+    private GermanTextAnalyzer() {
+    }
+
+    public static List<String> analyze(String text) {
+        List<String> tokens = tokenize(text);
+        tokens.replaceAll(GermanTextAnalyzer::stem);
+        return tokens;
+    }
+
+    // Lowercased and folded tokens, without stemming
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return new ArrayList<>();
+        }
+        String folded = fold(text.toLowerCase(Locale.GERMAN));
+        List<String> tokens = new ArrayList<>();
+        for (String rawToken : TOKEN_SEPARATOR.split(folded)) {
+            if (!rawToken.isEmpty()) {
+                tokens.add(rawToken);
+            }
+        }
+        return tokens;
+    }
+
+    static String fold(String text) {
+        StringBuilder folded = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case 'ä' -> folded.append('a');
+                case 'ö' -> folded.append('o');
+                case 'ü' -> folded.append('u');
+                case 'ß' -> folded.append("ss");
+                case 'e' -> {
+                    if (!spellsUmlaut(text, i)) {
+                        folded.append(c);
+                    }
+                }
+                default -> folded.append(c);
+            }
+        }
+        return folded.toString();
+    }
+
+    // "ae", "oe" and "ue" are typed for umlauts, except for "ue" after "q" as in "Quelle"
+    private static boolean spellsUmlaut(String text, int index) {
+        if (index == 0) {
+            return false;
+        }
+        char previous = text.charAt(index - 1);
+        if (previous == 'a' || previous == 'o') {
+            return true;
+        }
+        return previous == 'u' && (index < 2 || text.charAt(index - 2) != 'q');
+    }
+
+    static String stem(String token) {
+        if (!Character.isLetter(token.charAt(token.length() - 1))) {
+            return token;
+        }
+        for (String suffix : SUFFIXES) {
+            if (token.endsWith(suffix) && token.length() - suffix.length() >= MIN_STEM_LENGTH) {
+                return token.substring(0, token.length() - suffix.length());
+            }
+        }
+        return token;
+    }
+}
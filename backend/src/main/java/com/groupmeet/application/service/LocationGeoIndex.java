@@ -0,0 +1,135 @@
+package com.groupmeet.application.service;
+
+import com.groupmeet.application.model.Location;
+import com.groupmeet.application.repository.LocationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Grid-bucketed index over the coordinates of known locations. A radius query only looks at the
+ * grid cells overlapping the bounding box of the circle and computes exact distances for the
+ * locations in those cells.
+ */
+@Component
+public class LocationGeoIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocationGeoIndex.class);
+
+    private static final double CELL_SIZE_DEGREES = 0.25;
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE_LATITUDE = 111.32;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    private volatile GeoGrid grid = new GeoGrid();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.locations.geo-index.refresh-ms:3600000}",
+            initialDelayString = "${app.locations.geo-index.refresh-ms:3600000}")
+    public void refresh() {
+        GeoGrid freshGrid = new GeoGrid();
+        for (Location location : locationRepository.findAll()) {
+            if (location.getLatitude() != null && location.getLongitude() != null) {
+                freshGrid.add(new GeoPoint(location.getName(), location.getLatitude(), location.getLongitude()));
+            }
+        }
+        grid = freshGrid;
+        logger.info("Location geo index built with {} locations in {} cells.", freshGrid.pointsByName.size(),
+                freshGrid.cells.size());
+    }
+
+    /**
+     * Returns the lowercase names of all known locations within the radius around the named
+     * location, including the location itself. Unknown locations only match themselves.
+     *
+     * @param locationName the center of the search
+     * @param radiusKm the search radius in kilometers
+     * @return lowercase location names, never empty
+     */
+    public Set<String> findLocationNamesWithin(String locationName, double radiusKm) {
+        GeoGrid currentGrid = grid;
+        Set<String> names = new TreeSet<>();
+        names.add(locationName.toLowerCase());
+
+        GeoPoint center = currentGrid.pointsByName.get(locationName.toLowerCase());
+        if (center == null || radiusKm <= 0) {
+            return names;
+        }
+
+        double latitudeDelta = radiusKm / KM_PER_DEGREE_LATITUDE;
+        double longitudeDelta = radiusKm
+                / (KM_PER_DEGREE_LATITUDE * Math.max(Math.cos(Math.toRadians(center.latitude)), 0.01));
+        int minRow = cellIndex(center.latitude - latitudeDelta);
+        int maxRow = cellIndex(center.latitude + latitudeDelta);
+        int minColumn = cellIndex(center.longitude - longitudeDelta);
+        int maxColumn = cellIndex(center.longitude + longitudeDelta);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                List<GeoPoint> cell = currentGrid.cells.get(cellKey(row, column));
+                if (cell == null) {
+                    continue;
+                }
+                for (GeoPoint point : cell) {
+                    if (distanceKm(center, point) <= radiusKm) {
+                        names.add(point.name.toLowerCase());
+                    }
+                }
+            }
+        }
+        return names;
+    }
+
+    static double distanceKm(GeoPoint from, GeoPoint to) {
+        double latitudeDistance = Math.toRadians(to.latitude - from.latitude);
+        double longitudeDistance = Math.toRadians(to.longitude - from.longitude);
+        double a = Math.sin(latitudeDistance / 2) * Math.sin(latitudeDistance / 2)
+                + Math.cos(Math.toRadians(from.latitude)) * Math.cos(Math.toRadians(to.latitude))
+                        * Math.sin(longitudeDistance / 2) * Math.sin(longitudeDistance / 2);
+        return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    private static int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / CELL_SIZE_DEGREES);
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xFFFFFFFFL);
+    }
+
+    static final class GeoPoint {
+        private final String name;
+        private final double latitude;
+        private final double longitude;
+
+        GeoPoint(String name, double latitude, double longitude) {
+            this.name = name;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+    }
+
+    private static final class GeoGrid {
+        private final Map<Long, List<GeoPoint>> cells = new HashMap<>();
+        private final Map<String, GeoPoint> pointsByName = new HashMap<>();
+
+        private void add(GeoPoint point) {
+            cells.computeIfAbsent(cellKey(cellIndex(point.latitude), cellIndex(point.longitude)),
+                    key -> new ArrayList<>()).add(point);
+            pointsByName.put(point.name.toLowerCase(), point);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.groupmeet.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Bounded queue for outgoing mails. Mails are sent in batches, and each batch goes out over a
+ * single SMTP connection. Mails that fail are retried with exponential backoff until the attempt
+ * limit is reached. When the queue is full, new mails are rejected and counted instead of
+ * blocking the caller.
+ */
+@Component
+public class MailOutbox {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailOutbox.class);
+
+    private static final long MAX_RETRY_DELAY_MS = 30 * 60_000;
+
+    @Autowired
+    private JavaMailSender javaMailSender;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.mail.outbox.capacity:5000}")
+    private int capacity;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.retry-delay-ms:30000}")
+    private long retryDelayMs;
+
+    private final Object lock = new Object();
+
+    private final Deque<OutboundMail> pending = new ArrayDeque<>();
+
+    // Failed mails ordered by the time of their next attempt
+    private final PriorityQueue<OutboundMail> retries = new PriorityQueue<>(
+            (a, b) -> Long.compare(a.notBeforeMs, b.notBeforeMs));
+
+    private Counter sentCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+    private Counter rejectedCounter;
+    private Timer batchTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        sentCounter = meterRegistry.counter("mail.outbox.sent");
+        retriedCounter = meterRegistry.counter("mail.outbox.retried");
+        failedCounter = meterRegistry.counter("mail.outbox.failed");
+        rejectedCounter = meterRegistry.counter("mail.outbox.rejected");
+        batchTimer = meterRegistry.timer("mail.outbox.batch");
+        Gauge.builder("mail.outbox.queued", this, MailOutbox::size).register(meterRegistry);
+    }
+
+    /**
+     * Queues the messages for sending.
+     *
+     * @return how many messages were accepted; the rest did not fit into the queue
+     */
+    public int enqueue(Collection<SimpleMailMessage> messages) {
+        int accepted = 0;
+        synchronized (lock) {
+            for (SimpleMailMessage message : messages) {
+                if (pending.size() + retries.size() >= capacity) {
+                    break;
+                }
+                pending.add(new OutboundMail(message));
+                accepted++;
+            }
+        }
+        int rejected = messages.size() - accepted;
+        if (rejected > 0) {
+            rejectedCounter.increment(rejected);
+            logger.warn("Mail-Warteschlange ist voll, {} E-Mails wurden verworfen.", rejected);
+        }
+        return accepted;
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return pending.size() + retries.size();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.flush-ms:2000}")
+    public void flush() {
+        flush(System.currentTimeMillis());
+    }
+
+    // Sends batches until nothing is due anymore; runs on the scheduler thread only
+    void flush(long nowMs) {
+        List<OutboundMail> batch;
+        while (!(batch = nextBatch(nowMs)).isEmpty()) {
+            send(batch, nowMs);
+        }
+    }
+
+    private List<OutboundMail> nextBatch(long nowMs) {
+        List<OutboundMail> batch = new ArrayList<>(batchSize);
+        synchronized (lock) {
+            while (batch.size() < batchSize && !retries.isEmpty() && retries.peek().notBeforeMs <= nowMs) {
+                batch.add(retries.poll());
+            }
+            while (batch.size() < batchSize && !pending.isEmpty()) {
+                batch.add(pending.poll());
+            }
+        }
+        return batch;
+    }
+
+    private void send(List<OutboundMail> batch, long nowMs) {
+        SimpleMailMessage[] messages = batch.stream().map(mail -> mail.message).toArray(SimpleMailMessage[]::new);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            javaMailSender.send(messages);
+            sentCounter.increment(batch.size());
+        } catch (MailSendException e) {
+            // Without failed messages the connection itself failed and nothing was sent
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            List<OutboundMail> failed = failedMessages.isEmpty() ? batch
+                    : batch.stream().filter(mail -> failedMessages.containsKey(mail.message)).toList();
+            sentCounter.increment(batch.size() - failed.size());
+            retryLater(failed, nowMs, e);
+        } catch (MailException e) {
+            retryLater(batch, nowMs, e);
+        } finally {
+            sample.stop(batchTimer);
+        }
+    }
+
+    private void retryLater(List<OutboundMail> failed, long nowMs, MailException cause) {
+        synchronized (lock) {
+            for (OutboundMail mail : failed) {
+                mail.attempts++;
+                if (mail.attempts >= maxAttempts) {
+                    failedCounter.increment();
+                    logger.error("E-Mail an {} konnte nach {} Versuchen nicht gesendet werden: {}",
+                            String.join(", ", mail.message.getTo()), mail.attempts, cause.getMessage());
+                    continue;
+                }
+                long delay = Math.min(retryDelayMs << (mail.attempts - 1), MAX_RETRY_DELAY_MS);
+                mail.notBeforeMs = nowMs + delay;
+                retries.add(mail);
+                retriedCounter.increment();
+            }
+        }
+        logger.warn("Senden von {} E-Mails fehlgeschlagen, erneuter Versuch später: {}", failed.size(),
+                cause.getMessage());
+    }
+
+    private static final class OutboundMail {
+        private final SimpleMailMessage message;
+        private int attempts;
+        private long notBeforeMs;
+
+        private OutboundMail(SimpleMailMessage message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.groupmeet.application.service;
+
+import com.groupmeet.application.event.MeetingChangedEvent;
+import com.groupmeet.application.event.MeetingSnapshot;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.repository.ArchivedMeetingRepository;
+import com.groupmeet.application.repository.MeetingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Moves completed meetings together with their type, participant and block rows from the live
+ * tables into the archive tables. Every batch is copied and deleted in its own transaction, so a
+ * large backlog never holds locks on more than one batch at a time. Archived meetings leave the live
+ * tables like deleted ones, so a deletion event is published for each after its batch commits.
+ */
+@Component
+public class MeetingArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeetingArchiver.class);
+
+    @Autowired
+    private ArchivedMeetingRepository archivedMeetingRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.meetings.archive.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${app.meetings.archive.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.meetings.archive.cron:0 0 4 * * *}")
+    public int archiveCompletedMeetings() {
+        LocalDateTime startedBefore = LocalDateTime.now().minusDays(retentionDays);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        int archivedTotal = 0;
+        int archivedInBatch;
+        do {
+            archivedInBatch = transactionTemplate.execute(status -> archiveBatch(startedBefore));
+            archivedTotal += archivedInBatch;
+        } while (archivedInBatch == batchSize);
+
+        if (archivedTotal > 0) {
+            logger.info("Archived {} meetings that started before {}.", archivedTotal, startedBefore);
+        }
+        return archivedTotal;
+    }
+
+    private int archiveBatch(LocalDateTime startedBefore) {
+        List<Long> meetingIds = archivedMeetingRepository.lockMeetingIdsStartedBefore(startedBefore, batchSize);
+        if (meetingIds.isEmpty()) {
+            return 0;
+        }
+
+        // Read before the delete, so the in-memory indexes can drop the meetings from the right entries
+        List<Object[]> rows = meetingRepository.findDeletionState(meetingIds);
+        Map<Long, List<String>> typeNames = meetingRepository.findTypeNames(meetingIds).stream()
+                .collect(Collectors.groupingBy(row -> (Long) row[0],
+                        Collectors.mapping(row -> (String) row[1], Collectors.toList())));
+
+        archivedMeetingRepository.copyMeetings(meetingIds, LocalDateTime.now());
+        archivedMeetingRepository.copyMeetingTypes(meetingIds);
+        archivedMeetingRepository.copyParticipants(meetingIds);
+        archivedMeetingRepository.copyBlockedParticipants(meetingIds);
+
+        archivedMeetingRepository.deleteLiveWaitlistEntries(meetingIds);
+        archivedMeetingRepository.deleteLiveParticipations(meetingIds);
+        archivedMeetingRepository.deleteLiveMeetingTypes(meetingIds);
+        archivedMeetingRepository.deleteLiveMeetings(meetingIds);
+
+        for (Object[] row : rows) {
+            Long meetingId = (Long) row[0];
+            eventPublisher.publishEvent(MeetingChangedEvent.deleted(new MeetingSnapshot(meetingId, (String) row[1],
+                    (String) row[2], (MeetingFormat) row[3], (String) row[4], (LocalDateTime) row[5],
+                    typeNames.getOrDefault(meetingId, List.of()))));
+        }
+
+        logger.debug("Archived meeting batch {}..{}.", meetingIds.get(0), meetingIds.get(meetingIds.size() - 1));
+        return meetingIds.size();
+    }
+}
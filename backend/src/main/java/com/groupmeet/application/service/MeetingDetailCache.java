@@ -0,0 +1,176 @@
+package com.groupmeet.application.service;
+
+import com.google.common.cache.Cache;
+import com.groupmeet.application.dto.MeetingDetailDto;
+import com.groupmeet.application.event.MeetingChangedEvent;
+import com.groupmeet.application.event.MeetingMembersChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caches the part of the meeting details that is the same for every viewer. Each cached entry gets
+ * a new version, and changes to a meeting or its members drop the entry, so the next load gets a
+ * higher version. The version together with the viewer forms a strong ETag, which can be checked
+ * against If-None-Match without a database query while the entry is cached.
+ */
+@Component
+public class MeetingDetailCache {
+
+    private static final int GENERATION_SLOTS = 4096;
+
+    // Long enough that distinct viewers practically never share an ETag
+    private static final int VIEWER_DIGEST_BYTES = 12;
+
+    @Autowired
+    @Qualifier("meetingDetailCache")
+    private Cache<Long, CachedMeetingDetail> meetingDetailCache;
+
+    // ETags of an earlier run or another instance never match, even though their versions may
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong versions = new AtomicLong();
+
+    // Generation counters, bumped when a meeting is invalidated, so details loaded before a change of
+    // that meeting are not cached after it. Meetings share a counter only if their ids collide in the
+    // array, which at worst skips caching one load.
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_SLOTS);
+
+    public CachedMeetingDetail get(Long meetingId, Supplier<CachedMeetingDetail> loader) {
+        CachedMeetingDetail cached = meetingDetailCache.getIfPresent(meetingId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generationBeforeLoad = generations.get(slot(meetingId));
+        CachedMeetingDetail loaded = loader.get();
+        loaded.version = versions.incrementAndGet();
+        if (generations.get(slot(meetingId)) == generationBeforeLoad) {
+            meetingDetailCache.put(meetingId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns the details of several meetings in the given order. The meetings that are not cached
+     * are passed to the loader together, so they can be loaded with one set of queries. Meetings
+     * the loader does not return are left out.
+     */
+    public Map<Long, CachedMeetingDetail> getAll(Collection<Long> meetingIds,
+            Function<Collection<Long>, Map<Long, CachedMeetingDetail>> loader) {
+        Map<Long, CachedMeetingDetail> result = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long meetingId : meetingIds) {
+            CachedMeetingDetail cached = meetingDetailCache.getIfPresent(meetingId);
+            result.put(meetingId, cached);
+            if (cached == null) {
+                missing.add(meetingId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<Long, Long> generationsBeforeLoad = new HashMap<>();
+            missing.forEach(meetingId -> generationsBeforeLoad.put(meetingId, generations.get(slot(meetingId))));
+            Map<Long, CachedMeetingDetail> loaded = loader.apply(missing);
+            for (Long meetingId : missing) {
+                CachedMeetingDetail detail = loaded.get(meetingId);
+                if (detail == null) {
+                    result.remove(meetingId);
+                    continue;
+                }
+                detail.version = versions.incrementAndGet();
+                if (generations.get(slot(meetingId)) == generationsBeforeLoad.get(meetingId)) {
+                    meetingDetailCache.put(meetingId, detail);
+                }
+                result.put(meetingId, detail);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ETag of the cached details for the viewer, or null if the meeting is not cached.
+     */
+    public String findETag(Long meetingId, String viewerUsername) {
+        CachedMeetingDetail cached = meetingDetailCache.getIfPresent(meetingId);
+        return cached != null ? eTag(cached, viewerUsername) : null;
+    }
+
+    public String eTag(CachedMeetingDetail cached, String viewerUsername) {
+        // The viewer's flags follow from the username and the membership, which cannot change without a
+        // new version, so a digest of the username identifies the viewer-specific part of the response
+        String viewer = viewerUsername != null ? viewerDigest(viewerUsername) : "0";
+        return "\"" + instanceId + "-" + cached.getVersion() + "-" + viewer + "\"";
+    }
+
+    public void invalidate(Long meetingId) {
+        generations.incrementAndGet(slot(meetingId));
+        meetingDetailCache.invalidate(meetingId);
+    }
+
+    private static int slot(Long meetingId) {
+        return Math.floorMod(Long.hashCode(meetingId), GENERATION_SLOTS);
+    }
+
+    private static String viewerDigest(String viewerUsername) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(viewerUsername.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(Arrays.copyOf(digest, VIEWER_DIGEST_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        invalidate(event.getMeetingId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingMembersChanged(MeetingMembersChangedEvent event) {
+        invalidate(event.getMeetingId());
+    }
+
+    public static class CachedMeetingDetail {
+        private final MeetingDetailDto detail;
+        private final String creatorUsername;
+        private long version;
+
+        public CachedMeetingDetail(MeetingDetailDto detail, String creatorUsername) {
+            this.detail = detail;
+            this.creatorUsername = creatorUsername;
+        }
+
+        public MeetingDetailDto getDetail() {
+            return detail;
+        }
+
+        public String getCreatorUsername() {
+            return creatorUsername;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+    }
+}
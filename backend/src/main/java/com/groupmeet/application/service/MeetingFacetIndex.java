@@ -0,0 +1,417 @@
+package com.groupmeet.application.service;
+
+import com.groupmeet.application.dto.MeetingFacetsDto;
+import com.groupmeet.application.dto.MeetingSearchCriteriaDto;
+import com.groupmeet.application.event.MeetingChangedEvent;
+import com.groupmeet.application.event.MeetingSnapshot;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.repository.MeetingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps one bitmap per meeting type, format and location so facet counts for a search can be
+ * computed by intersecting bitmaps instead of running one query per facet value.
+ */
+@Component
+public class MeetingFacetIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeetingFacetIndex.class);
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private FacetData data = new FacetData();
+
+    // Changes that arrive while a rebuild reads the database are replayed onto the new index
+    private List<MeetingChangedEvent> changesDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${app.search.facets.rebuild-cron:0 35 3 * * *}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        LocalDateTime notBefore = LocalDateTime.now().minusHours(2);
+        Map<Long, List<String>> typeNamesByMeeting = new HashMap<>();
+        for (Object[] row : meetingRepository.findTypeNamesNotBefore(notBefore)) {
+            typeNamesByMeeting.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        FacetData freshData = new FacetData();
+        for (Object[] row : meetingRepository.findFacetFieldsNotBefore(notBefore)) {
+            Long meetingId = (Long) row[0];
+            freshData.add(new MeetingSnapshot(meetingId, null, null, (MeetingFormat) row[1], (String) row[2],
+                    (LocalDateTime) row[3], typeNamesByMeeting.getOrDefault(meetingId, List.of())));
+        }
+
+        lock.writeLock().lock();
+        try {
+            data = freshData;
+            changesDuringRebuild.forEach(this::applyChange);
+            changesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Meeting facet index rebuilt with {} meetings.", freshData.positionsByMeeting.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+            applyChange(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Counts matching meetings per type, format and location. Each facet is counted against all
+     * active criteria except its own, so the counts show what selecting another value would return.
+     *
+     * @param criteria the search criteria from the request
+     * @param locationNames lowercase location names a meeting may have, or null for any location
+     * @param notBefore meetings starting before this point in time are excluded
+     * @param termMatches ids matched by the search term, or null if no search term is active
+     * @return the facet counts, ordered by count descending
+     */
+    public MeetingFacetsDto facets(MeetingSearchCriteriaDto criteria, Collection<String> locationNames,
+            LocalDateTime notBefore, Collection<Long> termMatches) {
+        lock.readLock().lock();
+        try {
+            return data.facets(criteria, locationNames, notBefore, termMatches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies all criteria except the search term to the given meetings, without a database query.
+     *
+     * @param criteria the search criteria from the request
+     * @param locationNames lowercase location names a meeting may have, or null for any location
+     * @param notBefore meetings starting before this point in time are excluded
+     * @param meetingIds the candidate meetings, usually the matches of the search term
+     * @return the ids of the matching candidates, in the order they were given
+     */
+    public List<Long> filter(MeetingSearchCriteriaDto criteria, Collection<String> locationNames,
+            LocalDateTime notBefore, Collection<Long> meetingIds) {
+        lock.readLock().lock();
+        try {
+            return data.filter(criteria, locationNames, notBefore, meetingIds).stream()
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Like {@link #filter}, but ordered by start time and id. With a position given, only meetings
+     * after it are returned, matching the seek condition of the cursor based search.
+     *
+     * @param afterDateTime start time of the last meeting already returned, or null to start at the beginning
+     * @param afterId id of the last meeting already returned, or null to start at the beginning
+     * @return the ids of the matching candidates, ordered by start time and id
+     */
+    public List<Long> filterByStart(MeetingSearchCriteriaDto criteria, Collection<String> locationNames,
+            LocalDateTime notBefore, Collection<Long> meetingIds, LocalDateTime afterDateTime, Long afterId) {
+        List<Map.Entry<Long, LocalDateTime>> matches;
+        lock.readLock().lock();
+        try {
+            matches = data.filter(criteria, locationNames, notBefore, meetingIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches.stream()
+                .filter(match -> afterDateTime == null || afterId == null
+                        || match.getValue().isAfter(afterDateTime)
+                        || (match.getValue().isEqual(afterDateTime) && match.getKey() > afterId))
+                .sorted(Map.Entry.<Long, LocalDateTime>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private void applyChange(MeetingChangedEvent event) {
+        if (event.getChangeType() == MeetingChangedEvent.ChangeType.DELETED) {
+            data.remove(event.getMeetingId());
+        } else {
+            data.add(event.getCurrent());
+        }
+    }
+
+    private static String locationKey(String location) {
+        return StringUtils.hasText(location) ? location.toLowerCase() : null;
+    }
+
+    private static boolean locationFilterApplies(MeetingFormat format) {
+        return format == null || format == MeetingFormat.OFFLINE;
+    }
+
+    private static final class FacetRow {
+        private final LocalDateTime dateTime;
+        private final MeetingFormat format;
+        private final String locationKey;
+        private final List<String> typeNames;
+
+        private FacetRow(LocalDateTime dateTime, MeetingFormat format, String locationKey, List<String> typeNames) {
+            this.dateTime = dateTime;
+            this.format = format;
+            this.locationKey = locationKey;
+            this.typeNames = typeNames;
+        }
+    }
+
+    // Meetings are numbered densely in insertion order; bit n of every bitmap refers to rows.get(n)
+    private static final class FacetData {
+        private final Map<Long, Integer> positionsByMeeting = new HashMap<>();
+        private final List<FacetRow> rows = new ArrayList<>();
+        private final BitSet live = new BitSet();
+        private final Map<String, BitSet> typeBits = new HashMap<>();
+        private final Map<MeetingFormat, BitSet> formatBits = new EnumMap<>(MeetingFormat.class);
+        private final Map<String, BitSet> locationBits = new HashMap<>();
+        private final Map<String, String> locationLabels = new HashMap<>();
+
+        private void add(MeetingSnapshot meeting) {
+            remove(meeting.getId());
+
+            int position = rows.size();
+            String locationKey = locationKey(meeting.getLocation());
+            List<String> typeNames = meeting.getMeetingTypeNames() == null ? List.of() : meeting.getMeetingTypeNames();
+            rows.add(new FacetRow(meeting.getDateTime(), meeting.getFormat(), locationKey, typeNames));
+            positionsByMeeting.put(meeting.getId(), position);
+            live.set(position);
+
+            typeNames.forEach(typeName -> typeBits.computeIfAbsent(typeName, name -> new BitSet()).set(position));
+            if (meeting.getFormat() != null) {
+                formatBits.computeIfAbsent(meeting.getFormat(), format -> new BitSet()).set(position);
+            }
+            if (locationKey != null) {
+                locationBits.computeIfAbsent(locationKey, key -> new BitSet()).set(position);
+                locationLabels.putIfAbsent(locationKey, meeting.getLocation());
+            }
+        }
+
+        private void remove(Long meetingId) {
+            Integer position = positionsByMeeting.remove(meetingId);
+            if (position == null) {
+                return;
+            }
+            FacetRow row = rows.set(position, null);
+            live.clear(position);
+
+            row.typeNames.forEach(typeName -> clearBit(typeBits, typeName, position));
+            if (row.format != null) {
+                clearBit(formatBits, row.format, position);
+            }
+            if (row.locationKey != null) {
+                clearBit(locationBits, row.locationKey, position);
+                if (!locationBits.containsKey(row.locationKey)) {
+                    locationLabels.remove(row.locationKey);
+                }
+            }
+        }
+
+        private <K> void clearBit(Map<K, BitSet> bitsByValue, K value, int position) {
+            BitSet bits = bitsByValue.get(value);
+            if (bits != null) {
+                bits.clear(position);
+                if (bits.isEmpty()) {
+                    bitsByValue.remove(value);
+                }
+            }
+        }
+
+        // Checks each candidate row directly, so the cost follows the number of candidates
+        private List<Map.Entry<Long, LocalDateTime>> filter(MeetingSearchCriteriaDto criteria,
+                Collection<String> locationNames, LocalDateTime notBefore, Collection<Long> meetingIds) {
+            LocalDateTime from = notBefore;
+            if (criteria.getStartDate() != null && criteria.getStartDate().atTime(LocalTime.MIN).isAfter(from)) {
+                from = criteria.getStartDate().atTime(LocalTime.MIN);
+            }
+            LocalDateTime to = criteria.getEndDate() != null ? criteria.getEndDate().atTime(LocalTime.MAX) : null;
+            boolean filterTypes = criteria.getTypes() != null && !criteria.getTypes().isEmpty();
+            boolean filterLocation = locationNames != null && locationFilterApplies(criteria.getFormat());
+
+            List<Map.Entry<Long, LocalDateTime>> matches = new ArrayList<>();
+            for (Long meetingId : meetingIds) {
+                Integer position = positionsByMeeting.get(meetingId);
+                if (position == null) {
+                    continue;
+                }
+                FacetRow row = rows.get(position);
+                if (row.dateTime == null || row.dateTime.isBefore(from) || (to != null && row.dateTime.isAfter(to))) {
+                    continue;
+                }
+                if (criteria.getFormat() != null && row.format != criteria.getFormat()) {
+                    continue;
+                }
+                if (filterLocation && (row.locationKey == null || !locationNames.contains(row.locationKey))) {
+                    continue;
+                }
+                if (filterTypes && row.typeNames.stream().noneMatch(criteria.getTypes()::contains)) {
+                    continue;
+                }
+                matches.add(Map.entry(meetingId, row.dateTime));
+            }
+            return matches;
+        }
+
+        private MeetingFacetsDto facets(MeetingSearchCriteriaDto criteria, Collection<String> locationNames,
+                LocalDateTime notBefore, Collection<Long> termMatches) {
+            // Date range and search term are never faceted, so they form the base every facet starts from
+            BitSet base = dateMask(criteria, notBefore);
+            if (termMatches != null) {
+                BitSet termMask = new BitSet();
+                for (Long meetingId : termMatches) {
+                    Integer position = positionsByMeeting.get(meetingId);
+                    if (position != null) {
+                        termMask.set(position);
+                    }
+                }
+                base.and(termMask);
+            }
+
+            BitSet typeMask = null;
+            if (criteria.getTypes() != null && !criteria.getTypes().isEmpty()) {
+                typeMask = new BitSet();
+                for (String typeName : criteria.getTypes()) {
+                    BitSet bits = typeBits.get(typeName);
+                    if (bits != null) {
+                        typeMask.or(bits);
+                    }
+                }
+            }
+            BitSet formatMask = criteria.getFormat() != null
+                    ? copyOf(formatBits.get(criteria.getFormat()))
+                    : null;
+            BitSet locationMask = null;
+            if (locationNames != null) {
+                locationMask = new BitSet();
+                for (String locationName : locationNames) {
+                    BitSet bits = locationBits.get(locationKey(locationName));
+                    if (bits != null) {
+                        locationMask.or(bits);
+                    }
+                }
+            }
+
+            BitSet typeFilter = intersect(base, formatMask,
+                    locationFilterApplies(criteria.getFormat()) ? locationMask : null);
+            Map<String, Long> typeCounts = countPerValue(typeBits, typeFilter, criteria.getTypes());
+
+            Map<String, Long> formatCounts = new HashMap<>();
+            for (Map.Entry<MeetingFormat, BitSet> entry : formatBits.entrySet()) {
+                BitSet formatFilter = intersect(base, typeMask,
+                        locationFilterApplies(entry.getKey()) ? locationMask : null);
+                formatFilter.and(entry.getValue());
+                if (!formatFilter.isEmpty() || entry.getKey() == criteria.getFormat()) {
+                    formatCounts.put(entry.getKey().name(), (long) formatFilter.cardinality());
+                }
+            }
+
+            BitSet locationFilter = intersect(base, typeMask, formatMask);
+            Map<String, Long> locationCounts = new HashMap<>();
+            countPerValue(locationBits, locationFilter, null)
+                    .forEach((key, count) -> locationCounts.put(locationLabels.get(key), count));
+
+            return new MeetingFacetsDto(sortedByCount(typeCounts), sortedByCount(formatCounts),
+                    sortedByCount(locationCounts));
+        }
+
+        private BitSet dateMask(MeetingSearchCriteriaDto criteria, LocalDateTime notBefore) {
+            LocalDateTime from = notBefore;
+            if (criteria.getStartDate() != null && criteria.getStartDate().atTime(LocalTime.MIN).isAfter(from)) {
+                from = criteria.getStartDate().atTime(LocalTime.MIN);
+            }
+            LocalDateTime to = criteria.getEndDate() != null ? criteria.getEndDate().atTime(LocalTime.MAX) : null;
+
+            BitSet mask = new BitSet(rows.size());
+            for (int position = live.nextSetBit(0); position >= 0; position = live.nextSetBit(position + 1)) {
+                LocalDateTime dateTime = rows.get(position).dateTime;
+                if (dateTime != null && !dateTime.isBefore(from) && (to == null || !dateTime.isAfter(to))) {
+                    mask.set(position);
+                }
+            }
+            return mask;
+        }
+
+        private static BitSet copyOf(BitSet bits) {
+            return bits != null ? (BitSet) bits.clone() : new BitSet();
+        }
+
+        private static BitSet intersect(BitSet base, BitSet... masks) {
+            BitSet result = (BitSet) base.clone();
+            for (BitSet mask : masks) {
+                if (mask != null) {
+                    result.and(mask);
+                }
+            }
+            return result;
+        }
+
+        private static Map<String, Long> countPerValue(Map<String, BitSet> bitsByValue, BitSet filter,
+                Collection<String> selectedValues) {
+            Map<String, Long> counts = new HashMap<>();
+            for (Map.Entry<String, BitSet> entry : bitsByValue.entrySet()) {
+                BitSet matches = (BitSet) entry.getValue().clone();
+                matches.and(filter);
+                if (!matches.isEmpty()) {
+                    counts.put(entry.getKey(), (long) matches.cardinality());
+                }
+            }
+            // Selected values stay visible even when nothing matches them anymore
+            if (selectedValues != null) {
+                selectedValues.forEach(value -> counts.putIfAbsent(value, 0L));
+            }
+            return counts;
+        }
+
+        private static Map<String, Long> sortedByCount(Map<String, Long> counts) {
+            Map<String, Long> sorted = new LinkedHashMap<>();
+            counts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                            .thenComparing(entry -> entry.getKey().toLowerCase(Locale.GERMAN),
+                                    Comparator.naturalOrder()))
+                    .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.groupmeet.application.service;
+
+import com.groupmeet.application.event.MeetingChangedEvent;
+import com.groupmeet.application.event.MeetingLifecycleEvent;
+import com.groupmeet.application.model.MeetingStatus;
+import com.groupmeet.application.repository.MeetingRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps a start and an end timer for every meeting that has not completed yet in a timing wheel.
+ * When a timer fires, the meeting's status is advanced with a conditional update and a
+ * MeetingLifecycleEvent is published, so only one instance reports each transition.
+ */
+@Component
+public class MeetingLifecycleScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeetingLifecycleScheduler.class);
+
+    // Meetings have no end time; like the search indexes, they are treated as lasting two hours
+    static final Duration MEETING_DURATION = Duration.ofHours(2);
+
+    private static final long RETRY_DELAY_MS = 60_000;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.meetings.lifecycle.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${app.meetings.lifecycle.wheel-size:64}")
+    private int wheelSize;
+
+    private final Object lock = new Object();
+
+    private TimingWheel<Transition> wheel;
+
+    private final Map<Long, MeetingTimers> timersByMeeting = new HashMap<>();
+
+    @PostConstruct
+    void createWheel() {
+        wheel = new TimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadMeetings() {
+        List<Transition> due = new ArrayList<>();
+        for (Object[] row : meetingRepository.findLifecycleStateNotCompleted()) {
+            Long meetingId = (Long) row[0];
+            synchronized (lock) {
+                // A change that arrived meanwhile has already scheduled the current times
+                if (!timersByMeeting.containsKey(meetingId)) {
+                    schedule(meetingId, (LocalDateTime) row[1], (MeetingStatus) row[2], due);
+                }
+            }
+        }
+        logger.info("Meeting lifecycle scheduler loaded {} timers, {} transitions due.", pendingTimers(), due.size());
+        apply(due);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        List<Transition> due = new ArrayList<>();
+        synchronized (lock) {
+            cancel(event.getMeetingId());
+            // Only upcoming meetings can be created or edited
+            if (event.getCurrent() != null) {
+                schedule(event.getMeetingId(), event.getCurrent().getDateTime(), MeetingStatus.UPCOMING, due);
+            }
+        }
+        apply(due);
+    }
+
+    @Scheduled(fixedDelayString = "${app.meetings.lifecycle.tick-ms:1000}")
+    public void tick() {
+        List<Transition> due = new ArrayList<>();
+        synchronized (lock) {
+            wheel.advanceTo(System.currentTimeMillis(), transition -> {
+                MeetingTimers timers = timersByMeeting.get(transition.meetingId);
+                if (timers != null) {
+                    timers.fired(transition);
+                    if (timers.isEmpty()) {
+                        timersByMeeting.remove(transition.meetingId);
+                    }
+                }
+                due.add(transition);
+            });
+        }
+        apply(due);
+    }
+
+    public int pendingTimers() {
+        synchronized (lock) {
+            return wheel.size();
+        }
+    }
+
+    private void schedule(Long meetingId, LocalDateTime startsAt, MeetingStatus status, List<Transition> due) {
+        MeetingTimers timers = new MeetingTimers();
+        if (status == MeetingStatus.UPCOMING) {
+            Transition start = new Transition(meetingId, MeetingStatus.ONGOING);
+            timers.start = wheel.schedule(toEpochMilli(startsAt), start);
+            if (timers.start == null) {
+                due.add(start);
+            }
+        }
+        Transition end = new Transition(meetingId, MeetingStatus.COMPLETED);
+        timers.end = wheel.schedule(toEpochMilli(startsAt.plus(MEETING_DURATION)), end);
+        if (timers.end == null) {
+            due.add(end);
+        }
+        if (!timers.isEmpty()) {
+            timersByMeeting.put(meetingId, timers);
+        }
+    }
+
+    private void cancel(Long meetingId) {
+        MeetingTimers timers = timersByMeeting.remove(meetingId);
+        if (timers != null) {
+            wheel.cancel(timers.start);
+            wheel.cancel(timers.end);
+        }
+    }
+
+    private void apply(List<Transition> due) {
+        if (due.isEmpty()) {
+            return;
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        // Also called after the commit of a meeting change, where a joined transaction would not commit again
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // Timers fire up to one tick early; a meeting moved into the future since is left alone
+        LocalDateTime startedBy = LocalDateTime.now().plus(Duration.ofMillis(tickMs));
+        for (Transition transition : due) {
+            Set<MeetingStatus> expected = transition.status == MeetingStatus.ONGOING
+                    ? Set.of(MeetingStatus.UPCOMING)
+                    : Set.of(MeetingStatus.UPCOMING, MeetingStatus.ONGOING);
+            LocalDateTime latestStart = transition.status == MeetingStatus.ONGOING
+                    ? startedBy
+                    : startedBy.minus(MEETING_DURATION);
+            try {
+                Integer updated = transactionTemplate.execute(status -> meetingRepository
+                        .transitionStatus(transition.meetingId, expected, transition.status, latestStart));
+                if (updated != null && updated > 0) {
+                    logger.debug("Meeting {} is now {}.", transition.meetingId, transition.status);
+                    eventPublisher.publishEvent(new MeetingLifecycleEvent(transition.meetingId, transition.status));
+                }
+            } catch (RuntimeException e) {
+                logger.error("Could not mark meeting {} as {}, retrying later.", transition.meetingId,
+                        transition.status, e);
+                synchronized (lock) {
+                    scheduleRetry(transition);
+                }
+            }
+        }
+    }
+
+    // Tracked like the original timer, so rescheduling the meeting cancels the retry as well
+    private void scheduleRetry(Transition transition) {
+        MeetingTimers timers = timersByMeeting.computeIfAbsent(transition.meetingId, id -> new MeetingTimers());
+        if (timers.get(transition.status) != null) {
+            // The meeting was rescheduled meanwhile and has a newer timer for this transition
+            return;
+        }
+        timers.set(transition.status, wheel.schedule(System.currentTimeMillis() + RETRY_DELAY_MS, transition));
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static final class Transition {
+        private final Long meetingId;
+        private final MeetingStatus status;
+
+        private Transition(Long meetingId, MeetingStatus status) {
+            this.meetingId = meetingId;
+            this.status = status;
+        }
+    }
+
+    private static final class MeetingTimers {
+        private TimingWheel.Timer<Transition> start;
+        private TimingWheel.Timer<Transition> end;
+
+        private TimingWheel.Timer<Transition> get(MeetingStatus status) {
+            return status == MeetingStatus.ONGOING ? start : end;
+        }
+
+        private void set(MeetingStatus status, TimingWheel.Timer<Transition> timer) {
+            if (status == MeetingStatus.ONGOING) {
+                start = timer;
+            } else {
+                end = timer;
+            }
+        }
+
+        private void fired(Transition transition) {
+            if (start != null && start.getPayload() == transition) {
+                start = null;
+            } else if (end != null && end.getPayload() == transition) {
+                end = null;
+            }
+        }
+
+        private boolean isEmpty() {
+            return start == null && end == null;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.groupmeet.application.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Runs membership commands on one writer thread per stripe, with meetings mapped to stripes by id.
+ * Commands for the same meeting therefore never run concurrently, while other meetings proceed on
+ * the other stripes. Commands queued up on a stripe are executed together and committed in one
+ * transaction.
+ * <p>
+ * Commands must throw their rejections (ResponseStatusException, UsernameNotFoundException) before
+ * writing anything, so a rejected command can share the transaction with the others in its batch.
+ * Any other failure rolls the batch back and its commands are retried one transaction each.
+ * <p>
+ * Callers wait a bounded time for the stripe to start their command and get a 503 if it does not,
+ * as well as during shutdown. A command the stripe has started is waited for until its batch has
+ * committed or failed, so a 503 always means that nothing was changed and the request can be retried.
+ */
+@Component
+public class MeetingMembershipExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeetingMembershipExecutor.class);
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.meetings.membership.stripes:8}")
+    private int stripeCount;
+
+    @Value("${app.meetings.membership.max-batch-size:32}")
+    private int maxBatchSize;
+
+    @Value("${app.meetings.membership.timeout-ms:10000}")
+    private long timeoutMs;
+
+    private TransactionTemplate transactionTemplate;
+    private Stripe[] stripes;
+    private volatile boolean stopped;
+
+    @PostConstruct
+    void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe("meeting-writer-" + i);
+            stripes[i].thread.start();
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        stopped = true;
+        for (Stripe stripe : stripes) {
+            stripe.thread.interrupt();
+        }
+    }
+
+    /**
+     * Runs the command on the writer thread of the meeting and waits until its batch is committed.
+     * The command runs in the transaction of its batch, not in a transaction of the caller.
+     * A command the stripe has not started within the timeout is dropped. Once started, the caller
+     * waits for its outcome without a timeout, as the command may already have written its changes.
+     *
+     * @return the result of the command
+     * @throws RuntimeException the exception thrown by the command
+     * @throws ResponseStatusException with 503 if the command was not started in time or the executor
+     *         is stopped; the command has not run and has no effect then
+     */
+    public <T> T execute(Long meetingId, Supplier<T> command) {
+        Stripe stripe = stripes[Math.floorMod(meetingId.hashCode(), stripes.length)];
+        if (Thread.currentThread() == stripe.thread) {
+            return command.get();
+        }
+        if (stopped) {
+            throw unavailable();
+        }
+        Command<T> queued = new Command<>(command);
+        stripe.queue.add(queued);
+        // The stripe may have drained its queue for the last time before the command was added
+        if (stopped) {
+            stripe.failQueued();
+        }
+        try {
+            return queued.result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw failure(e.getCause());
+        } catch (TimeoutException e) {
+            if (queued.abandon()) {
+                logger.warn("Membership command for meeting {} was not started within {} ms.", meetingId, timeoutMs);
+                throw unavailable();
+            }
+            logger.warn("Membership command for meeting {} is still running after {} ms.", meetingId, timeoutMs);
+            return awaitStarted(queued);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (queued.abandon()) {
+                throw unavailable();
+            }
+            return awaitStarted(queued);
+        }
+    }
+
+    // join() ignores interrupts, so the caller always learns the outcome of a command that has run
+    private <T> T awaitStarted(Command<T> command) {
+        try {
+            return command.result.join();
+        } catch (CompletionException e) {
+            throw failure(e.getCause());
+        }
+    }
+
+    private static RuntimeException failure(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private ResponseStatusException unavailable() {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                "Die Anfrage konnte gerade nicht verarbeitet werden. Bitte versuchen Sie es erneut.");
+    }
+
+    public void run(Long meetingId, Runnable command) {
+        execute(meetingId, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    private void commitBatch(List<Command<?>> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::runInTransaction));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).fail(e);
+                return;
+            }
+            logger.warn("Group commit of {} membership commands failed, retrying them one by one.", batch.size(), e);
+            for (Command<?> command : batch) {
+                command.reset();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> runInTransaction(command));
+                    command.complete();
+                } catch (RuntimeException single) {
+                    command.fail(single);
+                }
+            }
+            return;
+        }
+        batch.forEach(Command::complete);
+    }
+
+    private void runInTransaction(Command<?> command) {
+        try {
+            command.run();
+        } catch (ResponseStatusException | UsernameNotFoundException e) {
+            command.reject(e);
+        }
+        // Bulk updates bypass loaded entities, so the next command must not see them
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private final class Stripe implements Runnable {
+        private final BlockingQueue<Command<?>> queue = new LinkedBlockingQueue<>();
+        private final Thread thread;
+
+        private Stripe(String name) {
+            this.thread = new Thread(this, name);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            List<Command<?>> batch = new ArrayList<>(maxBatchSize);
+            while (!stopped) {
+                try {
+                    batch.add(queue.take());
+                } catch (InterruptedException e) {
+                    break;
+                }
+                queue.drainTo(batch, maxBatchSize - 1);
+                // Callers that timed out have abandoned their commands; the others cannot do so from now on
+                batch.removeIf(command -> !command.claim());
+                try {
+                    if (!batch.isEmpty()) {
+                        commitBatch(batch);
+                    }
+                } catch (Throwable e) {
+                    // Errors must not end the thread, or every later command of the stripe would wait for it
+                    logger.error("Membership batch of {} commands failed.", batch.size(), e);
+                    batch.forEach(command -> command.fail(e));
+                }
+                batch.clear();
+            }
+            failQueued();
+        }
+
+        private void failQueued() {
+            List<Command<?>> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            remaining.forEach(command -> command.fail(unavailable()));
+        }
+    }
+
+    private static final class Command<T> {
+        private final Supplier<T> body;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        // Set by whichever comes first: the stripe starting the command or the caller giving up on it
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private T value;
+        private RuntimeException rejection;
+
+        private Command(Supplier<T> body) {
+            this.body = body;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true) && !result.isDone();
+        }
+
+        private boolean abandon() {
+            if (!claimed.compareAndSet(false, true)) {
+                return false;
+            }
+            result.cancel(false);
+            return true;
+        }
+
+        private void run() {
+            value = body.get();
+        }
+
+        private void reject(RuntimeException e) {
+            rejection = e;
+        }
+
+        private void reset() {
+            value = null;
+            rejection = null;
+        }
+
+        private void complete() {
+            if (rejection != null) {
+                result.completeExceptionally(rejection);
+            } else {
+                result.complete(value);
+            }
+        }
+
+        private void fail(Throwable e) {
+            result.completeExceptionally(e);
+        }
+    }
+}
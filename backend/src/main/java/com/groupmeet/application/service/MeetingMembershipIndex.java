@@ -0,0 +1,96 @@
+package com.groupmeet.application.service;
+
+import com.google.common.cache.Cache;
+import com.groupmeet.application.event.MeetingMembersChangedEvent;
+import com.groupmeet.application.model.ParticipationStatus;
+import com.groupmeet.application.repository.MeetingParticipationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches, per user, the ids of the meetings they take part in or are blocked from, as sorted arrays.
+ * Search results are annotated for the viewer with a binary search per row instead of a query.
+ * Membership changes drop the entries of the affected users.
+ */
+@Component
+public class MeetingMembershipIndex {
+
+    @Autowired
+    @Qualifier("meetingMembershipIndexCache")
+    private Cache<String, UserMemberships> meetingMembershipIndexCache;
+
+    @Autowired
+    private MeetingParticipationRepository meetingParticipationRepository;
+
+    // Bumped on every invalidation so memberships loaded before a change are not cached after it
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserMemberships get(String username) {
+        UserMemberships cached = meetingMembershipIndexCache.getIfPresent(username);
+        if (cached != null) {
+            return cached;
+        }
+
+        long invalidationsBeforeLoad = invalidations.get();
+        UserMemberships loaded = load(username);
+        if (invalidations.get() == invalidationsBeforeLoad) {
+            meetingMembershipIndexCache.put(username, loaded);
+        }
+        return loaded;
+    }
+
+    private UserMemberships load(String username) {
+        List<Object[]> rows = meetingParticipationRepository.findMeetingStatusesByUsername(username);
+        long[] joined = new long[rows.size()];
+        long[] blocked = new long[rows.size()];
+        int joinedCount = 0;
+        int blockedCount = 0;
+        for (Object[] row : rows) {
+            long meetingId = (Long) row[0];
+            if (row[1] == ParticipationStatus.BLOCKED) {
+                blocked[blockedCount++] = meetingId;
+            } else {
+                joined[joinedCount++] = meetingId;
+            }
+        }
+        joined = Arrays.copyOf(joined, joinedCount);
+        blocked = Arrays.copyOf(blocked, blockedCount);
+        Arrays.sort(joined);
+        Arrays.sort(blocked);
+        return new UserMemberships(joined, blocked);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingMembersChanged(MeetingMembersChangedEvent event) {
+        if (event.getUsernames().isEmpty()) {
+            return;
+        }
+        invalidations.incrementAndGet();
+        meetingMembershipIndexCache.invalidateAll(event.getUsernames());
+    }
+
+    public static class UserMemberships {
+        private final long[] joined;
+        private final long[] blocked;
+
+        UserMemberships(long[] joined, long[] blocked) {
+            this.joined = joined;
+            this.blocked = blocked;
+        }
+
+        public boolean isJoined(Long meetingId) {
+            return Arrays.binarySearch(joined, meetingId) >= 0;
+        }
+
+        public boolean isBlocked(Long meetingId) {
+            return Arrays.binarySearch(blocked, meetingId) >= 0;
+        }
+    }
+}
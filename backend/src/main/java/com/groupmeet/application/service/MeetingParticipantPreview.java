@@ -0,0 +1,131 @@
+package com.groupmeet.application.service;
+
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.User;
+import com.groupmeet.application.repository.MeetingParticipationRepository;
+import com.groupmeet.application.repository.MeetingRepository;
+import com.groupmeet.application.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the ids of the first participants of each meeting on the meeting row, so the detail page
+ * can show them without reading the participations. Only the ids are stored; names and avatars are
+ * loaded by primary key and therefore always current.
+ * <p>
+ * The methods are called by the membership commands, which MeetingMembershipExecutor runs one at a
+ * time per meeting, so read-modify-write on the stored list cannot race.
+ */
+@Component
+public class MeetingParticipantPreview {
+
+    // The organizer is shown separately and takes the fifth place in the preview
+    static final int SIZE = 4;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingParticipationRepository meetingParticipationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    public void participantsAdded(Long meetingId, Collection<Long> userIds) {
+        String stored = meetingRepository.findParticipantPreview(meetingId);
+        if (stored == null) {
+            refresh(meetingId);
+            return;
+        }
+        List<Long> preview = parse(stored);
+        if (preview.size() >= SIZE) {
+            return;
+        }
+        // New participants joined last, so they can only fill up free places at the end
+        for (Long userId : userIds) {
+            if (preview.size() >= SIZE) {
+                break;
+            }
+            if (!preview.contains(userId)) {
+                preview.add(userId);
+            }
+        }
+        meetingRepository.updateParticipantPreview(meetingId, format(preview));
+    }
+
+    public void participantRemoved(Long meetingId, Long userId) {
+        String stored = meetingRepository.findParticipantPreview(meetingId);
+        if (stored == null || parse(stored).contains(userId)) {
+            refresh(meetingId);
+        }
+    }
+
+    // Refills the preview with an index-backed LIMIT query over the participations
+    public void refresh(Long meetingId) {
+        meetingRepository.updateParticipantPreview(meetingId, format(findCurrentIds(meetingId)));
+    }
+
+    /**
+     * Returns the previewed participants in join order. Meetings created before the preview was
+     * stored fall back to the LIMIT query until their next membership change.
+     */
+    public List<User> findUsers(Long meetingId) {
+        String stored = meetingRepository.findParticipantPreview(meetingId);
+        List<Long> ids = stored != null ? parse(stored) : findCurrentIds(meetingId);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, User> users = userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return ids.stream().map(users::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Returns the previewed participants of several loaded meetings, with one query for all their users.
+     */
+    public Map<Long, List<User>> findUsers(Collection<Meeting> meetings) {
+        Map<Long, List<Long>> idsByMeeting = new HashMap<>();
+        Set<Long> userIds = new HashSet<>();
+        for (Meeting meeting : meetings) {
+            List<Long> ids = meeting.getParticipantPreview() != null ? parse(meeting.getParticipantPreview())
+                    : findCurrentIds(meeting.getId());
+            idsByMeeting.put(meeting.getId(), ids);
+            userIds.addAll(ids);
+        }
+        Map<Long, User> users = userIds.isEmpty() ? Map.of() : userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        Map<Long, List<User>> result = new HashMap<>();
+        idsByMeeting.forEach((meetingId, ids) -> result.put(meetingId,
+                ids.stream().map(users::get).filter(Objects::nonNull).toList()));
+        return result;
+    }
+
+    private List<Long> findCurrentIds(Long meetingId) {
+        return meetingParticipationRepository.findParticipantPreviewIds(meetingId, PageRequest.of(0, SIZE));
+    }
+
+    static List<Long> parse(String stored) {
+        if (stored.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(stored.split(",")).map(Long::valueOf).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    static String format(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
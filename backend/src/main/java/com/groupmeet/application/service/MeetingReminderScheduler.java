@@ -0,0 +1,105 @@
+package com.groupmeet.application.service;
+
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingReminder;
+import com.groupmeet.application.repository.MeetingParticipationRepository;
+import com.groupmeet.application.repository.MeetingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Queues reminder mails to the active participants of a meeting a day and an hour before it starts.
+ * Each reminder is claimed with a conditional update before it is queued, so it is sent once even
+ * with several instances, and reminders that became due while the application was down are sent
+ * on the next run. Moving a meeting clears its reminders.
+ * <p>
+ * The mail outbox is held in memory, so delivery is at most once across restarts: reminders queued
+ * but not yet sent when the application stops are lost. If the outbox rejects some of the mails,
+ * the claim is released and the whole reminder is sent again on the next run, possibly twice to
+ * the recipients whose mails were accepted.
+ */
+@Component
+public class MeetingReminderScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeetingReminderScheduler.class);
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingParticipationRepository participationRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Scheduled(fixedDelayString = "${app.meetings.reminders.interval-ms:60000}")
+    public int sendDueReminders() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime hourBefore = now.plus(MeetingReminder.HOUR_BEFORE.getLeadTime());
+        LocalDateTime dayBefore = now.plus(MeetingReminder.DAY_BEFORE.getLeadTime());
+
+        int queued = sendReminders(MeetingReminder.HOUR_BEFORE, now, hourBefore)
+                + sendReminders(MeetingReminder.DAY_BEFORE, hourBefore, dayBefore);
+        if (queued > 0) {
+            logger.info("Queued {} meeting reminders.", queued);
+        }
+        return queued;
+    }
+
+    private int sendReminders(MeetingReminder reminder, LocalDateTime from, LocalDateTime to) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int queued = 0;
+        for (Long meetingId : meetingRepository.findIdsDueForReminder(from, to, reminder)) {
+            try {
+                // Queued only after the claim has committed, so a rolled back claim cannot lead to duplicates
+                DueReminder due = transactionTemplate.execute(status -> claim(meetingId, reminder));
+                if (due != null) {
+                    int accepted = emailService.sendMeetingReminders(due.recipients, meetingId,
+                            due.meeting.getTitle(), due.meeting.getDateTime(), due.meeting.getLocation());
+                    queued += accepted;
+                    if (accepted < due.recipients.size()) {
+                        logger.warn("Outbox accepted {} of {} {} reminders for meeting {}, retrying on the next run.",
+                                accepted, due.recipients.size(), reminder, meetingId);
+                        transactionTemplate.executeWithoutResult(status -> meetingRepository.resetReminder(meetingId));
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.error("Could not send {} reminder for meeting {}.", reminder, meetingId, e);
+            }
+        }
+        return queued;
+    }
+
+    private DueReminder claim(Long meetingId, MeetingReminder reminder) {
+        if (meetingRepository.claimReminder(meetingId, reminder) == 0) {
+            return null;
+        }
+        Meeting meeting = meetingRepository.findById(meetingId).orElse(null);
+        List<String> recipients = participationRepository.findActiveUserEmails(meetingId);
+        if (meeting == null || recipients.isEmpty()) {
+            return null;
+        }
+        return new DueReminder(meeting, recipients);
+    }
+
+    private static final class DueReminder {
+        private final Meeting meeting;
+        private final List<String> recipients;
+
+        private DueReminder(Meeting meeting, List<String> recipients) {
+            this.meeting = meeting;
+            this.recipients = recipients;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.groupmeet.application.service;
+
+import com.google.common.cache.Cache;
+import com.groupmeet.application.dto.MeetingDto;
+import com.groupmeet.application.event.MeetingChangedEvent;
+import com.groupmeet.application.event.MeetingMembersChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches meeting search result pages and drops the pages a meeting change could affect: pages that
+ * show the meeting and result sets the meeting enters or leaves. Membership changes drop the pages
+ * showing the meeting, whose participant count is then outdated.
+ */
+@Component
+public class MeetingSearchCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeetingSearchCache.class);
+
+    @Autowired
+    @Qualifier("meetingSearchResultCache")
+    private Cache<MeetingSearchCacheKey, Page<MeetingDto>> meetingSearchResultCache;
+
+    // Bumped on every invalidation so pages loaded before a change are not cached after it
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public Page<MeetingDto> get(MeetingSearchCacheKey key, Supplier<Page<MeetingDto>> loader) {
+        Page<MeetingDto> cached = meetingSearchResultCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long invalidationsBeforeLoad = invalidations.get();
+        Page<MeetingDto> page = loader.get();
+        if (invalidations.get() == invalidationsBeforeLoad) {
+            meetingSearchResultCache.put(key, page);
+        }
+        return page;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        invalidations.incrementAndGet();
+        Long meetingId = event.getMeetingId();
+
+        int sizeBefore = meetingSearchResultCache.asMap().size();
+        meetingSearchResultCache.asMap().entrySet().removeIf(entry ->
+                entry.getValue().getContent().stream().anyMatch(meeting -> meeting.getId().equals(meetingId))
+                        || entry.getKey().couldMatch(event.getPrevious())
+                        || entry.getKey().couldMatch(event.getCurrent()));
+        logger.debug("Meeting {} {}: evicted {} cached search pages.", meetingId,
+                event.getChangeType().name().toLowerCase(), sizeBefore - meetingSearchResultCache.asMap().size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingMembersChanged(MeetingMembersChangedEvent event) {
+        invalidations.incrementAndGet();
+        Long meetingId = event.getMeetingId();
+
+        int sizeBefore = meetingSearchResultCache.asMap().size();
+        meetingSearchResultCache.asMap().entrySet().removeIf(entry -> entry.getKey().isSortedByParticipantCount()
+                || entry.getValue().getContent().stream().anyMatch(meeting -> meeting.getId().equals(meetingId)));
+        logger.debug("Members of meeting {} changed: evicted {} cached search pages.", meetingId,
+                sizeBefore - meetingSearchResultCache.asMap().size());
+    }
+}
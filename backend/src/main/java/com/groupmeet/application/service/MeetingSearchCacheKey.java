@@ -0,0 +1,137 @@
+package com.groupmeet.application.service;
+
+import com.groupmeet.application.dto.MeetingSearchCriteriaDto;
+import com.groupmeet.application.event.MeetingSnapshot;
+import com.groupmeet.application.model.MeetingFormat;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Cache key for one page of meeting search results. Criteria that select the same meetings map to
+ * equal keys, e.g. search terms differing only in case or whitespace and types listed in another order.
+ */
+public final class MeetingSearchCacheKey {
+
+    private final List<String> searchTokens;
+    private final List<String> types;
+    private final Set<String> locationNames;
+    private final MeetingFormat format;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final LocalDateTime notBefore;
+    private final long offset;
+    private final int pageSize;
+    private final String sort;
+    private final boolean sortedByParticipantCount;
+
+    private MeetingSearchCacheKey(MeetingSearchCriteriaDto criteria, Set<String> locationNames,
+            LocalDateTime notBefore, Pageable pageable) {
+        this.searchTokens = StringUtils.hasText(criteria.getSearchTerm())
+                ? GermanTextAnalyzer.analyze(criteria.getSearchTerm())
+                : List.of();
+        this.types = criteria.getTypes() == null ? List.of()
+                : criteria.getTypes().stream().filter(Objects::nonNull).distinct().sorted().toList();
+        // The search ignores the location for online meetings, so it must not split the key either.
+        // Radius searches are keyed by the locations they resolve to, not by the radius itself.
+        this.locationNames = locationNames != null
+                && (criteria.getFormat() == null || criteria.getFormat() == MeetingFormat.OFFLINE)
+                        ? new TreeSet<>(locationNames)
+                        : null;
+        this.format = criteria.getFormat();
+        this.startDate = criteria.getStartDate();
+        this.endDate = criteria.getEndDate();
+        this.notBefore = notBefore;
+        this.offset = pageable.getOffset();
+        this.pageSize = pageable.getPageSize();
+        this.sort = pageable.getSort().toString();
+        this.sortedByParticipantCount = pageable.getSort().getOrderFor("participantCount") != null;
+    }
+
+    public static MeetingSearchCacheKey of(MeetingSearchCriteriaDto criteria, Set<String> locationNames,
+            LocalDateTime notBefore, Pageable pageable) {
+        return new MeetingSearchCacheKey(criteria, locationNames, notBefore, pageable);
+    }
+
+    /**
+     * Tells whether a meeting in the given state would be part of the result set this key was created for,
+     * on any page.
+     */
+    public boolean couldMatch(MeetingSnapshot meeting) {
+        if (meeting == null || meeting.getDateTime() == null || meeting.getDateTime().isBefore(notBefore)) {
+            return false;
+        }
+        if (startDate != null && meeting.getDateTime().isBefore(startDate.atTime(LocalTime.MIN))) {
+            return false;
+        }
+        if (endDate != null && meeting.getDateTime().isAfter(endDate.atTime(LocalTime.MAX))) {
+            return false;
+        }
+        if (format != null && format != meeting.getFormat()) {
+            return false;
+        }
+        if (locationNames != null
+                && (meeting.getLocation() == null || !locationNames.contains(meeting.getLocation().toLowerCase()))) {
+            return false;
+        }
+        if (!types.isEmpty() && (meeting.getMeetingTypeNames() == null
+                || meeting.getMeetingTypeNames().stream().noneMatch(types::contains))) {
+            return false;
+        }
+        return searchTokens.isEmpty() || matchesSearchTokens(meeting);
+    }
+
+    // Membership changes can reorder such pages even if they do not show the meeting
+    public boolean isSortedByParticipantCount() {
+        return sortedByParticipantCount;
+    }
+
+    // Uses the terms and prefix lookup of the search index, so a page is evicted exactly when the index would match
+    private boolean matchesSearchTokens(MeetingSnapshot meeting) {
+        NavigableMap<String, Float> terms = MeetingSearchIndex.indexTerms(meeting.getTitle(), meeting.getDescription());
+        return searchTokens.stream().allMatch(token -> !MeetingSearchIndex.termsWithPrefix(terms, token).isEmpty());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MeetingSearchCacheKey)) {
+            return false;
+        }
+        MeetingSearchCacheKey that = (MeetingSearchCacheKey) o;
+        return offset == that.offset
+                && pageSize == that.pageSize
+                && searchTokens.equals(that.searchTokens)
+                && types.equals(that.types)
+                && Objects.equals(locationNames, that.locationNames)
+                && format == that.format
+                && Objects.equals(startDate, that.startDate)
+                && Objects.equals(endDate, that.endDate)
+                && notBefore.equals(that.notBefore)
+                && sort.equals(that.sort);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(searchTokens, types, locationNames, format, startDate, endDate, notBefore, offset,
+                pageSize, sort);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "MeetingSearchCacheKey[tokens=%s, types=%s, locations=%s, format=%s, "
+                + "start=%s, end=%s, notBefore=%s, offset=%d, size=%d, sort=%s]", searchTokens, types, locationNames,
+                format, startDate, endDate, notBefore, offset, pageSize, sort);
+    }
+}
@@ -0,0 +1,215 @@
+package com.groupmeet.application.service;
+
+import com.groupmeet.application.event.MeetingChangedEvent;
+import com.groupmeet.application.event.MeetingSnapshot;
+import com.groupmeet.application.repository.MeetingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory inverted index over meeting titles and descriptions. Query tokens are matched as
+ * prefixes of indexed terms so the index can serve search-as-you-type requests. Every word is
+ * indexed with its stem and, where that differs, its unstemmed form, so a partly typed word such
+ * as "wanderu" still finds "Wanderung".
+ */
+@Component
+public class MeetingSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeetingSearchIndex.class);
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> (meetingId -> term weight)
+    private NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private Map<Long, Set<String>> termsByMeeting = new HashMap<>();
+    private Map<Long, LocalDateTime> dateTimeByMeeting = new HashMap<>();
+
+    // Changes that arrive while a rebuild reads the database are replayed onto the new index
+    private List<MeetingChangedEvent> changesDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${app.search.index.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<Object[]> rows = meetingRepository.findSearchableTextNotBefore(LocalDateTime.now().minusHours(2));
+
+        NavigableMap<String, Map<Long, Float>> freshPostings = new TreeMap<>();
+        Map<Long, Set<String>> freshTermsByMeeting = new HashMap<>();
+        Map<Long, LocalDateTime> freshDateTimeByMeeting = new HashMap<>();
+        for (Object[] row : rows) {
+            addDocument(freshPostings, freshTermsByMeeting, (Long) row[0], (String) row[1], (String) row[2]);
+            freshDateTimeByMeeting.put((Long) row[0], (LocalDateTime) row[3]);
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = freshPostings;
+            termsByMeeting = freshTermsByMeeting;
+            dateTimeByMeeting = freshDateTimeByMeeting;
+            changesDuringRebuild.forEach(this::applyChange);
+            changesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Meeting search index rebuilt with {} meetings and {} terms.", freshTermsByMeeting.size(),
+                freshPostings.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+            applyChange(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of all meetings containing every token of the query, most relevant first.
+     * Meetings that started before {@code notBefore} are skipped even if the nightly rebuild has
+     * not removed them yet.
+     *
+     * @param query the raw search term
+     * @param notBefore the earliest start of a returned meeting
+     * @return ranked meeting ids, empty if nothing matches
+     */
+    public List<Long> search(String query, LocalDateTime notBefore) {
+        List<String> tokens = GermanTextAnalyzer.analyze(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = termsByMeeting.size();
+            Map<Long, Float> scores = null;
+            for (String token : new LinkedHashSet<>(tokens)) {
+                Map<Long, Float> tokenScores = new HashMap<>();
+                for (Map<Long, Float> documents : termsWithPrefix(postings, token).values()) {
+                    float idf = (float) Math.log(1.0 + (double) documentCount / documents.size());
+                    documents.forEach((meetingId, weight) -> tokenScores.merge(meetingId, weight * idf, Math::max));
+                }
+
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((meetingId, score) -> score + tokenScores.get(meetingId));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            return scores.entrySet().stream()
+                    .filter(entry -> !dateTimeByMeeting.get(entry.getKey()).isBefore(notBefore))
+                    .sorted(Map.Entry.<Long, Float>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Float>comparingByKey()))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyChange(MeetingChangedEvent event) {
+        removeDocument(event.getMeetingId());
+        MeetingSnapshot current = event.getCurrent();
+        if (current != null) {
+            addDocument(postings, termsByMeeting, current.getId(), current.getTitle(), current.getDescription());
+            dateTimeByMeeting.put(current.getId(), current.getDateTime());
+        }
+    }
+
+    /**
+     * Returns the terms a meeting with the given title and description is indexed under, with their weights.
+     * Every token is indexed by its stem and, if that differs, also as written, so prefixes of either match.
+     */
+    static NavigableMap<String, Float> indexTerms(String title, String description) {
+        NavigableMap<String, Float> termWeights = new TreeMap<>();
+        addTerms(termWeights, title, TITLE_WEIGHT);
+        addTerms(termWeights, description, DESCRIPTION_WEIGHT);
+        return termWeights;
+    }
+
+    // A query token matches every term it is a prefix of, so partly typed words already find results
+    static <V> NavigableMap<String, V> termsWithPrefix(NavigableMap<String, V> terms, String token) {
+        return terms.subMap(token, true, token + Character.MAX_VALUE, true);
+    }
+
+    private static void addDocument(NavigableMap<String, Map<Long, Float>> targetPostings,
+            Map<Long, Set<String>> targetTermsByMeeting, Long meetingId, String title, String description) {
+        Map<String, Float> termWeights = indexTerms(title, description);
+
+        termWeights.forEach((term, weight) -> targetPostings.computeIfAbsent(term, key -> new HashMap<>())
+                .put(meetingId, weight));
+        targetTermsByMeeting.put(meetingId, termWeights.keySet());
+    }
+
+    private static void addTerms(Map<String, Float> termWeights, String text, float weight) {
+        for (String token : GermanTextAnalyzer.tokenize(text)) {
+            String stem = GermanTextAnalyzer.stem(token);
+            termWeights.merge(stem, weight, Float::sum);
+            if (!stem.equals(token)) {
+                termWeights.merge(token, weight, Float::sum);
+            }
+        }
+    }
+
+    private void removeDocument(Long meetingId) {
+        dateTimeByMeeting.remove(meetingId);
+        Set<String> terms = termsByMeeting.remove(meetingId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Float> documents = postings.get(term);
+            if (documents != null) {
+                documents.remove(meetingId);
+                if (documents.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
@@ -1,50 +1,69 @@
 package com.groupmeet.application.service;
 
 import com.groupmeet.application.dto.CurrentUserMeetingMembership;
+import com.groupmeet.application.dto.MeetingCursorPageDto;
 import com.groupmeet.application.dto.MeetingCreationDto;
 import com.groupmeet.application.dto.MeetingDetailDto;
 import com.groupmeet.application.dto.MeetingDto;
+import com.groupmeet.application.dto.MeetingFacetsDto;
 import com.groupmeet.application.dto.MeetingParticipantDetailsDto;
 import com.groupmeet.application.dto.MeetingParticipantPreviewDto;
 import com.groupmeet.application.dto.MeetingParticipantsPageDto;
 import com.groupmeet.application.dto.MeetingSearchCriteriaDto;
+import com.groupmeet.application.dto.MeetingSearchCursor;
+import com.groupmeet.application.dto.MeetingTimelineSection;
 import com.groupmeet.application.dto.MeetingUpdateDto;
+import com.groupmeet.application.dto.ParticipantAddOutcome;
+import com.groupmeet.application.dto.ParticipantAddResultDto;
+import com.groupmeet.application.dto.WaitlistPositionDto;
+import com.groupmeet.application.event.MeetingChangedEvent;
+import com.groupmeet.application.event.MeetingMembersChangedEvent;
+import com.groupmeet.application.event.MeetingSeatsFreedEvent;
+import com.groupmeet.application.event.MeetingSnapshot;
 import com.groupmeet.application.model.*;
-import com.groupmeet.application.repository.BlockedMeetingParticipantRepository;
+import com.groupmeet.application.repository.MeetingParticipationRepository;
 import com.groupmeet.application.repository.InterestRepository;
 import com.groupmeet.application.repository.MeetingRepository;
+import com.groupmeet.application.repository.MeetingSpecifications;
+import com.groupmeet.application.repository.MeetingWaitlistRepository;
 import com.groupmeet.application.repository.UserRepository;
-import jakarta.persistence.criteria.Expression;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
-import jakarta.persistence.criteria.Predicate;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.groupmeet.application.dto.UserMeetingTimelinePageDto;
 import com.groupmeet.application.dto.UserProfileMeetingDto;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.time.DayOfWeek;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.time.temporal.TemporalAdjusters;
 import org.springframework.data.domain.PageImpl;
-import java.util.Comparator;
-import java.util.stream.Stream;
-import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -62,11 +81,58 @@ public class MeetingService {
     private InterestRepository interestRepository;
 
     @Autowired
-    private BlockedMeetingParticipantRepository blockedMeetingParticipantRepository;
+    private MeetingParticipationRepository meetingParticipationRepository;
+
+    @Autowired
+    private MeetingWaitlistRepository meetingWaitlistRepository;
+
+    @Autowired
+    private MeetingMembershipExecutor membershipExecutor;
+
+    @Autowired
+    private QuotaService quotaService;
+
+    @Autowired
+    private MeetingSearchIndex meetingSearchIndex;
+
+    @Autowired
+    private MeetingFacetIndex meetingFacetIndex;
+
+    @Autowired
+    private MeetingSearchCache meetingSearchCache;
+
+    @Autowired
+    private MeetingDetailCache meetingDetailCache;
+
+    @Autowired
+    private MeetingParticipantPreview participantPreview;
+
+    @Autowired
+    private MeetingMembershipIndex membershipIndex;
+
+    @Autowired
+    private LocationGeoIndex locationGeoIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.admin.usernames:}")
+    private Set<String> adminUsernames;
 
-    private static final int PARTICIPANTS_PREVIEW_SIZE = 5;
     private static final int MAX_MEETINGS_PER_WEEK_FREE = 1;
     private static final int MAX_ACTIVE_JOINED_MEETINGS_FREE = 3;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_DETAILS = 50;
+    private static final String RELEVANCE_SORT_PROPERTY = "relevance";
+    private static final int SEARCH_CUTOFF_BUCKET_MINUTES = 5;
+    private static final int EXPORT_BATCH_SIZE = 500;
+    private static final int BULK_DELETE_BATCH_SIZE = 500;
 
     @Transactional
     public MeetingDto createMeeting(MeetingCreationDto dto, String creatorUsername) {
@@ -74,13 +140,7 @@ public class MeetingService {
                 .orElseThrow(() -> new UsernameNotFoundException("Benutzer nicht gefunden: " + creatorUsername));
 
         if (!creator.isPro()) {
-            LocalDateTime newMeetingDateTime = dto.getDateTime();
-            LocalDateTime startOfWeek = newMeetingDateTime.truncatedTo(ChronoUnit.DAYS)
-                    .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).with(LocalTime.MIN);
-            LocalDateTime endOfWeek = startOfWeek.plusDays(6).with(LocalTime.MAX);
-
-            long meetingsInTargetWeek = meetingRepository.countByCreatorAndDateTimeBetween(creator, startOfWeek,
-                    endOfWeek);
+            long meetingsInTargetWeek = quotaService.getMeetingsInWeek(creator, dto.getDateTime());
             if (meetingsInTargetWeek >= MAX_MEETINGS_PER_WEEK_FREE) {
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN,
                         "Kostenlose Benutzer können nur " + MAX_MEETINGS_PER_WEEK_FREE + " Meeting pro Woche planen.");
@@ -138,86 +198,221 @@ public class MeetingService {
         meeting.setCreator(creator);
 
         meeting.addParticipant(creator);
+        meeting.setParticipantCount(1);
+        meeting.setParticipantPreview("");
 
         Meeting savedMeeting = meetingRepository.save(meeting);
+        quotaService.meetingScheduled(creator.getId(), savedMeeting.getDateTime());
+        quotaService.membershipAdded(creator.getId(), savedMeeting.getDateTime());
         logger.info("Meeting '{}' (ID: {}) created by {}", savedMeeting.getTitle(), savedMeeting.getId(),
                 creatorUsername);
+        eventPublisher.publishEvent(MeetingChangedEvent.created(MeetingSnapshot.of(savedMeeting)));
+        eventPublisher.publishEvent(new MeetingMembersChangedEvent(savedMeeting.getId(), List.of(creatorUsername)));
         return MeetingDto.fromEntity(savedMeeting);
     }
 
-    @Transactional(readOnly = true)
-    public Page<MeetingDto> searchMeetings(MeetingSearchCriteriaDto criteria, Pageable pageable) {
-        Specification<Meeting> spec = (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
+    // Cached pages are served without a transaction, so a cache hit never borrows a database connection
+    public Page<MeetingDto> searchMeetings(MeetingSearchCriteriaDto criteria, Pageable pageable,
+            String currentUsername) {
+        LocalDateTime notBefore = searchCutoff();
+        Set<String> locationNames = resolveLocationNames(criteria);
+        Page<MeetingDto> page = meetingSearchCache.get(
+                MeetingSearchCacheKey.of(criteria, locationNames, notBefore, pageable),
+                () -> loadSearchPage(criteria, locationNames, notBefore, pageable));
+        return new PageImpl<>(withCurrentUserFlags(page.getContent(), currentUsername), page.getPageable(),
+                page.getTotalElements());
+    }
 
-            if (StringUtils.hasText(criteria.getSearchTerm())) {
-                String searchTermLower = "%" + criteria.getSearchTerm().toLowerCase() + "%";
+    // The flags come from the viewer's cached membership index, without a query per row
+    private List<MeetingDto> withCurrentUserFlags(List<MeetingDto> meetings, String currentUsername) {
+        if (currentUsername == null || currentUsername.isBlank() || meetings.isEmpty()) {
+            return meetings;
+        }
+        MeetingMembershipIndex.UserMemberships memberships = membershipIndex.get(currentUsername);
+        return meetings.stream()
+                .map(meeting -> meeting.forCurrentUser(memberships.isJoined(meeting.getId()),
+                        currentUsername.equals(meeting.getCreatorUsername()),
+                        memberships.isBlocked(meeting.getId())))
+                .toList();
+    }
 
-                Expression<String> titlePath = root.get("title");
-                Predicate titleMatch = criteriaBuilder.like(criteriaBuilder.lower(titlePath), searchTermLower);
+    private Page<MeetingDto> loadSearchPage(MeetingSearchCriteriaDto criteria, Set<String> locationNames,
+            LocalDateTime notBefore, Pageable pageable) {
+        Specification<Meeting> spec = MeetingSpecifications.matchingCriteria(criteria, locationNames, notBefore);
+        boolean sortByRelevance = pageable.getSort().getOrderFor(RELEVANCE_SORT_PROPERTY) != null;
 
-                Expression<String> descriptionPath = root.get("description");
-                Predicate descriptionMatch = criteriaBuilder.like(criteriaBuilder.lower(descriptionPath),
-                        searchTermLower);
+        if (!StringUtils.hasText(criteria.getSearchTerm())) {
+            Pageable dbPageable = sortByRelevance
+                    ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("dateTime"))
+                    : pageable;
+            return meetingRepository.findMeetingSummaries(spec, dbPageable);
+        }
 
-                predicates.add(criteriaBuilder.or(titleMatch, descriptionMatch));
-            }
+        // The term matches are filtered and ordered in memory, so only the ids of one page reach the database
+        List<Long> rankedIds = meetingSearchIndex.search(criteria.getSearchTerm(), notBefore);
+        if (rankedIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
 
-            if (criteria.getTypes() != null && !criteria.getTypes().isEmpty()) {
-                Join<Meeting, Interest> meetingTypeJoin = root.joinSet("meetingTypes", JoinType.LEFT);
-                predicates.add(meetingTypeJoin.get("name").in(criteria.getTypes()));
-                query.distinct(true);
-            }
+        List<Long> orderedIds;
+        if (sortByRelevance) {
+            orderedIds = meetingFacetIndex.filter(criteria, locationNames, notBefore, rankedIds);
+        } else if (isSortedByStart(pageable.getSort())) {
+            orderedIds = meetingFacetIndex.filterByStart(criteria, locationNames, notBefore, rankedIds, null, null);
+        } else {
+            // Other sort orders need database columns; the sorted ids are intersected with the matches
+            Set<Long> termMatches = new HashSet<>(rankedIds);
+            orderedIds = meetingRepository.findMeetingIds(spec, pageable.getSort()).stream()
+                    .filter(termMatches::contains)
+                    .collect(Collectors.toList());
+        }
 
-            if (StringUtils.hasText(criteria.getLocation())) {
-                if (criteria.getFormat() == null || criteria.getFormat() == MeetingFormat.OFFLINE) {
-                    predicates.add(criteriaBuilder.equal(criteriaBuilder.lower(root.get("location")),
-                            criteria.getLocation().toLowerCase()));
-                }
-            }
+        int start = (int) Math.min(pageable.getOffset(), orderedIds.size());
+        int end = Math.min(start + pageable.getPageSize(), orderedIds.size());
+        return new PageImpl<>(findSummariesInOrder(orderedIds.subList(start, end)), pageable, orderedIds.size());
+    }
+
+    private static boolean isSortedByStart(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1 && orders.get(0).getProperty().equals("dateTime") && orders.get(0).isAscending();
+    }
+
+    private List<MeetingDto> findSummariesInOrder(List<Long> meetingIds) {
+        Map<Long, MeetingDto> meetingsById = meetingRepository.findMeetingSummariesByIds(meetingIds).stream()
+                .collect(Collectors.toMap(MeetingDto::getId, Function.identity()));
+        return meetingIds.stream()
+                .map(meetingsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
-            if (criteria.getFormat() != null) {
-                predicates.add(criteriaBuilder.equal(root.get("format"), criteria.getFormat()));
+    @Transactional(readOnly = true)
+    public MeetingCursorPageDto searchMeetingsByCursor(MeetingSearchCriteriaDto criteria, String cursor, int size,
+            String currentUsername) {
+        MeetingSearchCursor after = null;
+        if (StringUtils.hasText(cursor)) {
+            try {
+                after = MeetingSearchCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Ungültiger Cursor.");
             }
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        LocalDateTime notBefore = searchCutoff();
+        Set<String> locationNames = resolveLocationNames(criteria);
+        LocalDateTime afterDateTime = after != null ? after.getDateTime() : null;
+        Long afterId = after != null ? after.getId() : null;
+
+        // One extra row tells us whether another page exists without running a count query
+        List<MeetingDto> meetings;
+        if (StringUtils.hasText(criteria.getSearchTerm())) {
+            List<Long> matchingIds = meetingFacetIndex.filterByStart(criteria, locationNames, notBefore,
+                    meetingSearchIndex.search(criteria.getSearchTerm(), notBefore), afterDateTime, afterId);
+            meetings = findSummariesInOrder(matchingIds.subList(0, Math.min(matchingIds.size(), pageSize + 1)));
+        } else {
+            meetings = meetingRepository.findMeetingSummariesAfterCursor(
+                    MeetingSpecifications.matchingCriteria(criteria, locationNames, notBefore),
+                    afterDateTime, afterId, pageSize + 1);
+        }
 
-            if (criteria.getStartDate() != null) {
-                LocalDateTime startDateTime = criteria.getStartDate().atTime(LocalTime.MIN);
-                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("dateTime"), startDateTime));
+        boolean hasNext = meetings.size() > pageSize;
+        List<MeetingDto> content = hasNext ? meetings.subList(0, pageSize) : meetings;
+
+        String nextCursor = null;
+        if (hasNext) {
+            MeetingDto last = content.get(content.size() - 1);
+            nextCursor = new MeetingSearchCursor(last.getDateTime(), last.getId()).encode();
+        }
+        return new MeetingCursorPageDto(withCurrentUserFlags(content, currentUsername), nextCursor, pageSize);
+    }
+
+    /**
+     * Writes every meeting matching the criteria as one JSON object per line, ordered by date.
+     * Rows are read through a database cursor in batches and written out batch by batch.
+     */
+    @Transactional(readOnly = true)
+    public void exportMeetings(MeetingSearchCriteriaDto criteria, OutputStream outputStream) {
+        LocalDateTime notBefore = searchCutoff();
+        Set<String> locationNames = resolveLocationNames(criteria);
+
+        long[] exported = { 0 };
+        Consumer<List<MeetingDto>> writer = batch -> {
+            try {
+                for (MeetingDto meeting : batch) {
+                    outputStream.write(objectMapper.writeValueAsBytes(meeting));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
+            exported[0] += batch.size();
+        };
 
-            if (criteria.getEndDate() != null) {
-                LocalDateTime endDateTime = criteria.getEndDate().atTime(LocalTime.MAX);
-                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("dateTime"), endDateTime));
+        if (StringUtils.hasText(criteria.getSearchTerm())) {
+            // Term matches are ordered in memory and loaded one batch of ids at a time
+            List<Long> matchingIds = meetingFacetIndex.filterByStart(criteria, locationNames, notBefore,
+                    meetingSearchIndex.search(criteria.getSearchTerm(), notBefore), null, null);
+            for (int start = 0; start < matchingIds.size(); start += EXPORT_BATCH_SIZE) {
+                writer.accept(findSummariesInOrder(
+                        matchingIds.subList(start, Math.min(start + EXPORT_BATCH_SIZE, matchingIds.size()))));
             }
+        } else {
+            meetingRepository.forEachMeetingSummaryBatch(
+                    MeetingSpecifications.matchingCriteria(criteria, locationNames, notBefore),
+                    EXPORT_BATCH_SIZE, writer);
+        }
+        logger.info("Exported {} meetings.", exported[0]);
+    }
 
-            predicates
-                    .add(criteriaBuilder.greaterThanOrEqualTo(root.get("dateTime"), LocalDateTime.now().minusHours(2)));
+    public MeetingFacetsDto getSearchFacets(MeetingSearchCriteriaDto criteria) {
+        LocalDateTime notBefore = searchCutoff();
+        List<Long> termMatches = StringUtils.hasText(criteria.getSearchTerm())
+                ? meetingSearchIndex.search(criteria.getSearchTerm(), notBefore)
+                : null;
+        return meetingFacetIndex.facets(criteria, resolveLocationNames(criteria), notBefore, termMatches);
+    }
 
-            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
+    // With a radius the location expands to all known locations around it, pruned through the geo grid
+    private Set<String> resolveLocationNames(MeetingSearchCriteriaDto criteria) {
+        if (StringUtils.hasText(criteria.getLocation()) && criteria.getRadiusKm() != null
+                && criteria.getRadiusKm() > 0) {
+            return locationGeoIndex.findLocationNamesWithin(criteria.getLocation(), criteria.getRadiusKm());
+        }
+        return MeetingSpecifications.requestedLocation(criteria);
+    }
 
-        Page<Meeting> meetingsPage = meetingRepository.findAll(spec, pageable);
-        return meetingsPage.map(MeetingDto::fromEntity);
+    // Meetings stay searchable for two hours after they start. The cutoff moves in fixed steps so
+    // repeated searches share cache entries.
+    private LocalDateTime searchCutoff() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(2).truncatedTo(ChronoUnit.MINUTES);
+        return cutoff.minusMinutes(cutoff.getMinute() % SEARCH_CUTOFF_BUCKET_MINUTES);
     }
 
-    @Transactional
+    // Membership changes run on the writer thread of their meeting, see MeetingMembershipExecutor
     public void joinMeeting(Long meetingId, String username) {
+        membershipExecutor.run(meetingId, () -> doJoinMeeting(meetingId, username));
+    }
+
+    private void doJoinMeeting(Long meetingId, String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("Benutzer nicht gefunden: " + username));
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Meeting nicht gefunden"));
 
-        if (blockedMeetingParticipantRepository.existsByMeetingAndUser(meeting, user)) {
+        ParticipationStatus status = meetingParticipationRepository.findStatus(meetingId, user.getId()).orElse(null);
+        if (status == ParticipationStatus.BLOCKED) {
             logger.warn("User {} is blocked from meeting {} and cannot join.", username, meetingId);
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Sie sind für dieses Meeting gesperrt.");
         }
 
-        if (meeting.getParticipants().contains(user)) {
+        if (status == ParticipationStatus.ACTIVE) {
             logger.info("User {} is already a participant in meeting {}.", username, meetingId);
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Sie sind bereits Teilnehmer dieses Meetings.");
         }
 
-        if (meeting.getMaxParticipants() != null && meeting.getParticipants().size() >= meeting.getMaxParticipants()) {
+        if (meeting.getMaxParticipants() != null && meeting.getParticipantCount() >= meeting.getMaxParticipants()) {
             logger.warn("Meeting {} is full. User {} cannot join.", meetingId, username);
             throw new ResponseStatusException(HttpStatus.CONFLICT,
                     "Das Meeting hat bereits die maximale Teilnehmerzahl erreicht.");
@@ -228,29 +423,167 @@ public class MeetingService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Dieses Meeting hat bereits stattgefunden.");
         }
 
-        if (!user.isPro()) {
-            long activeJoinedMeetingsCount = meetingRepository.countActiveMeetingsUserIsParticipantIn(user,
-                    LocalDateTime.now());
-            if (activeJoinedMeetingsCount >= MAX_ACTIVE_JOINED_MEETINGS_FREE) {
-                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Kostenlose Benutzer können maximal an "
-                        + MAX_ACTIVE_JOINED_MEETINGS_FREE + " aktiven Meetings teilnehmen.");
-            }
+        if (exceedsFreeJoinLimit(user)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Kostenlose Benutzer können maximal an "
+                    + MAX_ACTIVE_JOINED_MEETINGS_FREE + " aktiven Meetings teilnehmen.");
+        }
+
+        // Freed seats belong to the waitlist until the promoter has filled them
+        if (meetingWaitlistRepository.existsByMeeting_Id(meetingId)) {
+            logger.info("Meeting {} has a waitlist. User {} cannot join directly.", meetingId, username);
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Für dieses Meeting gibt es eine Warteliste. Bitte tragen Sie sich dort ein.");
         }
         logger.warn("User {} is joining meeting {}.", username, meetingId);
-        meeting.addParticipant(user);
-        meetingRepository.save(meeting);
+        // The check above only rejects early; concurrent joins are decided by the conditional seat update
+        if (meetingRepository.reserveSeat(meetingId) == 0) {
+            logger.warn("Meeting {} filled up before user {} could join.", meetingId, username);
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Das Meeting hat bereits die maximale Teilnehmerzahl erreicht.");
+        }
+        meetingRepository.insertParticipant(meetingId, user.getId());
+        participantPreview.participantsAdded(meetingId, List.of(user.getId()));
+        quotaService.membershipAdded(user.getId(), meeting.getDateTime());
         logger.info("User {} successfully joined meeting {}.", username, meetingId);
+        eventPublisher.publishEvent(new MeetingMembersChangedEvent(meetingId, List.of(username)));
+    }
+
+    @Transactional
+    public WaitlistPositionDto joinWaitlist(Long meetingId, String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("Benutzer nicht gefunden: " + username));
+        Meeting meeting = meetingRepository.findById(meetingId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Meeting nicht gefunden"));
+
+        ParticipationStatus status = meetingParticipationRepository.findStatus(meetingId, user.getId()).orElse(null);
+        if (status == ParticipationStatus.BLOCKED) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Sie sind für dieses Meeting gesperrt.");
+        }
+
+        if (status == ParticipationStatus.ACTIVE) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Sie sind bereits Teilnehmer dieses Meetings.");
+        }
+
+        if (meeting.getDateTime().isBefore(LocalDateTime.now())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Dieses Meeting hat bereits stattgefunden.");
+        }
+
+        boolean hasFreeSeats = meeting.getMaxParticipants() == null
+                || meeting.getParticipantCount() < meeting.getMaxParticipants();
+        boolean hasWaitlist = meetingWaitlistRepository.existsByMeeting_Id(meetingId);
+        if (hasFreeSeats && !hasWaitlist) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Das Meeting hat noch freie Plätze. Sie können direkt beitreten.");
+        }
+
+        if (meetingWaitlistRepository.existsByMeeting_IdAndUser_Id(meetingId, user.getId())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Sie stehen bereits auf der Warteliste dieses Meetings.");
+        }
+
+        if (exceedsFreeJoinLimit(user)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Kostenlose Benutzer können maximal an "
+                    + MAX_ACTIVE_JOINED_MEETINGS_FREE + " aktiven Meetings teilnehmen.");
+        }
+
+        MeetingWaitlistEntry entry = meetingWaitlistRepository.save(new MeetingWaitlistEntry(meeting, user));
+        if (hasFreeSeats) {
+            eventPublisher.publishEvent(new MeetingSeatsFreedEvent(meetingId));
+        }
+        logger.info("User {} joined the waitlist of meeting {}.", username, meetingId);
+        return new WaitlistPositionDto(meetingId, meetingWaitlistRepository.countUpToEntry(meetingId, entry.getId()),
+                meetingWaitlistRepository.countByMeeting_Id(meetingId));
     }
 
     @Transactional
+    public void leaveWaitlist(Long meetingId, String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("Benutzer nicht gefunden: " + username));
+
+        if (meetingWaitlistRepository.deleteEntry(meetingId, user.getId()) == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Sie stehen nicht auf der Warteliste dieses Meetings.");
+        }
+        logger.info("User {} left the waitlist of meeting {}.", username, meetingId);
+    }
+
+    @Transactional(readOnly = true)
+    public WaitlistPositionDto getWaitlistPosition(Long meetingId, String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("Benutzer nicht gefunden: " + username));
+        MeetingWaitlistEntry entry = meetingWaitlistRepository.findByMeeting_IdAndUser_Id(meetingId, user.getId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Sie stehen nicht auf der Warteliste dieses Meetings."));
+
+        return new WaitlistPositionDto(meetingId, meetingWaitlistRepository.countUpToEntry(meetingId, entry.getId()),
+                meetingWaitlistRepository.countByMeeting_Id(meetingId));
+    }
+
+    /**
+     * Moves users from the front of the meeting's waitlist into free seats, at most maxPromotions
+     * at a time. Entries of users who can no longer join are dropped.
+     *
+     * @return the number of promoted users
+     */
+    public int promoteFromWaitlist(Long meetingId, int maxPromotions) {
+        return membershipExecutor.execute(meetingId, () -> doPromoteFromWaitlist(meetingId, maxPromotions));
+    }
+
+    private int doPromoteFromWaitlist(Long meetingId, int maxPromotions) {
+        Meeting meeting = meetingRepository.findById(meetingId).orElse(null);
+        if (meeting == null || meeting.getDateTime().isBefore(LocalDateTime.now())) {
+            int dropped = meetingWaitlistRepository.deleteByMeetingIds(List.of(meetingId));
+            if (dropped > 0) {
+                logger.info("Dropped {} waitlist entries of past or deleted meeting {}.", dropped, meetingId);
+            }
+            return 0;
+        }
+
+        List<User> promoted = new ArrayList<>();
+        for (MeetingWaitlistEntry entry : meetingWaitlistRepository.findByMeeting_IdOrderByIdAsc(meetingId,
+                PageRequest.of(0, maxPromotions))) {
+            User user = entry.getUser();
+            // Any participation row means the user already joined or was blocked meanwhile
+            if (meetingParticipationRepository.findStatus(meetingId, user.getId()).isPresent()
+                    || exceedsFreeJoinLimit(user)) {
+                logger.info("Dropping waitlist entry of user {} for meeting {}, user can no longer join.",
+                        user.getUsername(), meetingId);
+                meetingWaitlistRepository.delete(entry);
+                continue;
+            }
+            if (meetingRepository.reserveSeat(meetingId) == 0) {
+                break;
+            }
+            meetingRepository.insertParticipant(meetingId, user.getId());
+            quotaService.membershipAdded(user.getId(), meeting.getDateTime());
+            meetingWaitlistRepository.delete(entry);
+            promoted.add(user);
+            logger.info("User {} promoted from the waitlist into meeting {}.", user.getUsername(), meetingId);
+        }
+        if (!promoted.isEmpty()) {
+            participantPreview.participantsAdded(meetingId, promoted.stream().map(User::getId).toList());
+            eventPublisher.publishEvent(new MeetingMembersChangedEvent(meetingId,
+                    promoted.stream().map(User::getUsername).toList()));
+        }
+        return promoted.size();
+    }
+
+    private boolean exceedsFreeJoinLimit(User user) {
+        return !user.isPro() && quotaService.getActiveJoinedMeetings(user) >= MAX_ACTIVE_JOINED_MEETINGS_FREE;
+    }
+
     public void leaveMeeting(Long meetingId, String username) {
+        membershipExecutor.run(meetingId, () -> doLeaveMeeting(meetingId, username));
+    }
+
+    private void doLeaveMeeting(Long meetingId, String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("Benutzer nicht gefunden: " + username));
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Meeting nicht gefunden"));
 
         if (meeting.getCreator().equals(user)) {
-            if (meeting.getParticipants().size() > 1) {
+            if (meeting.getParticipantCount() > 1) {
                 logger.warn("Organizer {} attempted to leave meeting {} while other participants are present.",
                         username, meetingId);
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
@@ -262,18 +595,25 @@ public class MeetingService {
             logger.warn("User {} attempted to leave past meeting {}.", username, meetingId);
         }
 
-        boolean removed = meeting.getParticipants().remove(user);
+        boolean removed = meetingRepository.deleteParticipant(meetingId, user.getId()) > 0;
         if (removed) {
-            meetingRepository.save(meeting);
+            meetingRepository.adjustParticipantCount(meetingId, -1);
+            participantPreview.participantRemoved(meetingId, user.getId());
+            quotaService.membershipRemoved(user.getId(), meeting.getDateTime());
+            eventPublisher.publishEvent(new MeetingSeatsFreedEvent(meetingId));
             logger.info("User {} successfully left meeting {}.", username, meetingId);
+            eventPublisher.publishEvent(new MeetingMembersChangedEvent(meetingId, List.of(username)));
         } else {
             logger.warn("User {} was not a participant in meeting {}. Cannot leave.", username, meetingId);
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Sie sind kein Teilnehmer dieses Meetings.");
         }
     }
 
-    @Transactional
     public void blockParticipant(Long meetingId, Long userIdToBlock, String organizerUsername) {
+        membershipExecutor.run(meetingId, () -> doBlockParticipant(meetingId, userIdToBlock, organizerUsername));
+    }
+
+    private void doBlockParticipant(Long meetingId, Long userIdToBlock, String organizerUsername) {
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Meeting nicht gefunden"));
 
@@ -292,30 +632,37 @@ public class MeetingService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Organisator kann sich nicht selbst blockieren.");
         }
 
-        if (blockedMeetingParticipantRepository.existsByMeetingAndUser(meeting, userToBlock)) {
+        if (meetingParticipationRepository.findStatus(meetingId, userIdToBlock).orElse(null)
+                == ParticipationStatus.BLOCKED) {
             throw new ResponseStatusException(HttpStatus.CONFLICT,
                     "Benutzer ist bereits für dieses Meeting blockiert.");
         }
 
-        boolean removed = meeting.getParticipants().removeIf(participant -> participant.getId().equals(userIdToBlock));
+        boolean removed = meetingParticipationRepository.blockActiveParticipant(meetingId, userIdToBlock,
+                organizer.getId()) > 0;
         if (removed) {
+            meetingRepository.adjustParticipantCount(meetingId, -1);
+            participantPreview.participantRemoved(meetingId, userIdToBlock);
+            quotaService.membershipRemoved(userIdToBlock, meeting.getDateTime());
+            eventPublisher.publishEvent(new MeetingSeatsFreedEvent(meetingId));
             logger.info("User {} (ID: {}) removed from active participants of meeting {} by organizer {}.",
                     userToBlock.getUsername(), userIdToBlock, meetingId, organizerUsername);
         } else {
             logger.info("User {} (ID: {}) was not an active participant in meeting {} when block was initiated by {}.",
                     userToBlock.getUsername(), userIdToBlock, meetingId, organizerUsername);
+            meetingParticipationRepository.insertBlocked(meetingId, userIdToBlock, organizer.getId());
         }
-        if (removed)
-            meetingRepository.save(meeting);
-
-        BlockedMeetingParticipant blockedEntry = new BlockedMeetingParticipant(meeting, userToBlock, organizer);
-        blockedMeetingParticipantRepository.save(blockedEntry);
+        meetingWaitlistRepository.deleteEntry(meetingId, userIdToBlock);
+        eventPublisher.publishEvent(new MeetingMembersChangedEvent(meetingId, List.of(userToBlock.getUsername())));
         logger.info("User {} (ID: {}) successfully blocked from meeting {} by organizer {}.", userToBlock.getUsername(),
                 userIdToBlock, meetingId, organizerUsername);
     }
 
-    @Transactional
     public void unblockParticipant(Long meetingId, Long userIdToUnblock, String organizerUsername) {
+        membershipExecutor.run(meetingId, () -> doUnblockParticipant(meetingId, userIdToUnblock, organizerUsername));
+    }
+
+    private void doUnblockParticipant(Long meetingId, Long userIdToUnblock, String organizerUsername) {
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Meeting nicht gefunden"));
 
@@ -331,18 +678,20 @@ public class MeetingService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Zu entblockender Benutzer nicht gefunden"));
 
-        BlockedMeetingParticipant blockedEntry = blockedMeetingParticipantRepository
-                .findByMeetingAndUser(meeting, userToUnblock)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
-                        "Benutzer ist nicht für dieses Meeting blockiert."));
-
-        blockedMeetingParticipantRepository.delete(blockedEntry);
+        // Blocked users are never active, so lifting the block leaves the participant preview as it is
+        if (meetingParticipationRepository.deleteBlocked(meetingId, userToUnblock.getId()) == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Benutzer ist nicht für dieses Meeting blockiert.");
+        }
+        eventPublisher.publishEvent(new MeetingMembersChangedEvent(meetingId, List.of(userToUnblock.getUsername())));
         logger.info("User {} (ID: {}) successfully unblocked from meeting {} by organizer {}.",
                 userToUnblock.getUsername(), userIdToUnblock, meetingId, organizerUsername);
     }
 
-    @Transactional
     public void removeParticipantFromMeeting(Long meetingId, Long userIdToRemove, String organizerUsername) {
+        membershipExecutor.run(meetingId, () -> doRemoveParticipantFromMeeting(meetingId, userIdToRemove, organizerUsername));
+    }
+
+    private void doRemoveParticipantFromMeeting(Long meetingId, Long userIdToRemove, String organizerUsername) {
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Meeting nicht gefunden"));
 
@@ -362,16 +711,21 @@ public class MeetingService {
                     "Der Organisator kann nicht aus dem Meeting entfernt werden. Das Meeting muss ggf. gelöscht werden.");
         }
 
-        if (blockedMeetingParticipantRepository.existsByMeetingAndUser(meeting, userToRemove)) {
+        if (meetingParticipationRepository.findStatus(meetingId, userIdToRemove).orElse(null)
+                == ParticipationStatus.BLOCKED) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                     "Dieser Benutzer ist für das Meeting blockiert und kann nicht auf diese Weise entfernt werden. Heben Sie zuerst die Blockierung auf.");
         }
 
-        boolean removed = meeting.getParticipants().removeIf(participant -> participant.getId().equals(userIdToRemove));
+        boolean removed = meetingRepository.deleteParticipant(meetingId, userIdToRemove) > 0;
         if (removed) {
-            meetingRepository.save(meeting);
+            meetingRepository.adjustParticipantCount(meetingId, -1);
+            participantPreview.participantRemoved(meetingId, userIdToRemove);
+            quotaService.membershipRemoved(userIdToRemove, meeting.getDateTime());
+            eventPublisher.publishEvent(new MeetingSeatsFreedEvent(meetingId));
             logger.info("User {} (ID: {}) removed from meeting {} by organizer {}.", userToRemove.getUsername(),
                     userIdToRemove, meetingId, organizerUsername);
+            eventPublisher.publishEvent(new MeetingMembersChangedEvent(meetingId, List.of(userToRemove.getUsername())));
         } else {
             logger.warn(
                     "User {} (ID: {}) was not an active participant in meeting {} when removal was initiated by {}.",
@@ -380,108 +734,259 @@ public class MeetingService {
         }
     }
 
-    @Transactional(readOnly = true)
-    public MeetingParticipantsPageDto getMeetingParticipantsDetails(
-            Long meetingId, String viewerUsername, Pageable pageable, String searchTerm) {
+    public List<ParticipantAddResultDto> addParticipants(Long meetingId, List<Long> userIds,
+            String organizerUsername) {
+        return membershipExecutor.execute(meetingId, () -> doAddParticipants(meetingId, userIds, organizerUsername));
+    }
 
+    // Checks the whole set with grouped queries and inserts the accepted users as one JDBC batch
+    private List<ParticipantAddResultDto> doAddParticipants(Long meetingId, List<Long> userIds,
+            String organizerUsername) {
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Meeting nicht gefunden"));
 
-        User viewer = userRepository.findByUsername(viewerUsername)
-                .orElseThrow(() -> new UsernameNotFoundException("Betrachter nicht gefunden: " + viewerUsername));
-
-        boolean isViewerOrganizer = meeting.getCreator().getId().equals(viewer.getId());
+        User organizer = userRepository.findByUsername(organizerUsername)
+                .orElseThrow(() -> new UsernameNotFoundException("Organisator nicht gefunden: " + organizerUsername));
 
-        List<MeetingParticipantDetailsDto> allParticipantDetails = new ArrayList<>();
-
-        meeting.getParticipants().forEach(user -> {
-            allParticipantDetails.add(MeetingParticipantDetailsDto.fromUser(
-                    user,
-                    user.getId().equals(meeting.getCreator().getId()),
-                    "ACTIVE"));
-        });
-
-        if (isViewerOrganizer) {
-            List<BlockedMeetingParticipant> blockedEntries = blockedMeetingParticipantRepository.findByMeeting(meeting);
-            blockedEntries.forEach(blockedEntry -> {
-                boolean alreadyListed = allParticipantDetails.stream()
-                        .anyMatch(p -> p.getId().equals(blockedEntry.getUser().getId()));
-
-                if (alreadyListed) {
-                    allParticipantDetails.stream()
-                            .filter(p -> p.getId().equals(blockedEntry.getUser().getId()))
-                            .findFirst()
-                            .ifPresent(pDto -> pDto.setParticipationStatus("BLOCKED"));
-                } else {
-                    allParticipantDetails.add(MeetingParticipantDetailsDto.fromUser(
-                            blockedEntry.getUser(),
-                            false,
-                            "BLOCKED"));
-                }
-            });
+        if (!meeting.getCreator().getId().equals(organizer.getId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Nur der Organisator kann Teilnehmer hinzufügen.");
         }
 
-        Stream<MeetingParticipantDetailsDto> filteredStream = allParticipantDetails.stream();
-        if (StringUtils.hasText(searchTerm)) {
-            String lowerSearchTerm = searchTerm.toLowerCase();
-            filteredStream = filteredStream.filter(p -> p.getUsername().toLowerCase().contains(lowerSearchTerm) ||
-                    p.getFirstName().toLowerCase().contains(lowerSearchTerm) ||
-                    p.getLastName().toLowerCase().contains(lowerSearchTerm));
+        if (meeting.getDateTime().isBefore(LocalDateTime.now())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Dieses Meeting hat bereits stattgefunden.");
         }
 
-        List<MeetingParticipantDetailsDto> filteredParticipants = filteredStream
-                .sorted(Comparator.comparing(MeetingParticipantDetailsDto::isOrganizer).reversed()
-                        .thenComparing(dto -> "BLOCKED".equals(dto.getParticipationStatus()))
-                        .thenComparing(MeetingParticipantDetailsDto::getFirstName)
-                        .thenComparing(MeetingParticipantDetailsDto::getLastName))
-                .collect(Collectors.toList());
+        List<Long> requestedIds = userIds.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Long, User> users = userRepository.findAllById(requestedIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, ParticipationStatus> statuses = meetingParticipationRepository
+                .findStatuses(meetingId, requestedIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (ParticipationStatus) row[1]));
+
+        List<User> freeUsers = users.values().stream().filter(user -> !user.isPro()).toList();
+        Set<Long> overQuota = freeUsers.isEmpty() ? Set.of() : quotaService.getActiveJoinedMeetings(freeUsers)
+                .entrySet().stream()
+                .filter(count -> count.getValue() >= MAX_ACTIVE_JOINED_MEETINGS_FREE)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), filteredParticipants.size());
+        int freeSeats = meeting.getMaxParticipants() == null ? Integer.MAX_VALUE
+                : Math.max(0, meeting.getMaxParticipants() - meeting.getParticipantCount());
+
+        List<ParticipantAddResultDto> results = new ArrayList<>();
+        List<Long> accepted = new ArrayList<>();
+        for (Long userId : requestedIds) {
+            ParticipationStatus status = statuses.get(userId);
+            ParticipantAddOutcome outcome;
+            if (!users.containsKey(userId)) {
+                outcome = ParticipantAddOutcome.USER_NOT_FOUND;
+            } else if (status == ParticipationStatus.BLOCKED) {
+                outcome = ParticipantAddOutcome.BLOCKED;
+            } else if (status == ParticipationStatus.ACTIVE) {
+                outcome = ParticipantAddOutcome.ALREADY_PARTICIPANT;
+            } else if (overQuota.contains(userId)) {
+                outcome = ParticipantAddOutcome.QUOTA_EXCEEDED;
+            } else if (accepted.size() >= freeSeats) {
+                outcome = ParticipantAddOutcome.MEETING_FULL;
+            } else {
+                accepted.add(userId);
+                outcome = ParticipantAddOutcome.ADDED;
+            }
+            results.add(new ParticipantAddResultDto(userId, outcome));
+        }
 
-        List<MeetingParticipantDetailsDto> pageContent = List.of();
-        if (start < end) {
-            pageContent = filteredParticipants.subList(start, end);
+        if (!accepted.isEmpty()) {
+            if (meetingRepository.reserveSeats(meetingId, accepted.size()) == 0) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Das Meeting hat bereits die maximale Teilnehmerzahl erreicht.");
+            }
+            meetingParticipationRepository.insertParticipants(meetingId, accepted);
+            participantPreview.participantsAdded(meetingId, accepted);
+            quotaService.membershipsAdded(accepted, meeting.getDateTime());
+            // Users added by the organizer no longer need their waitlist entries
+            meetingWaitlistRepository.deleteEntries(meetingId, accepted);
+            eventPublisher.publishEvent(new MeetingMembersChangedEvent(meetingId,
+                    accepted.stream().map(userId -> users.get(userId).getUsername()).toList()));
         }
+        logger.info("Organizer {} added {} of {} requested users to meeting {}.", organizerUsername, accepted.size(),
+                requestedIds.size(), meetingId);
+        return results;
+    }
+
+    @Transactional(readOnly = true)
+    public MeetingParticipantsPageDto getMeetingParticipantsDetails(
+            Long meetingId, String viewerUsername, Pageable pageable, String searchTerm) {
+
+        Meeting meeting = meetingRepository.findById(meetingId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Meeting nicht gefunden"));
+
+        User viewer = userRepository.findByUsername(viewerUsername)
+                .orElseThrow(() -> new UsernameNotFoundException("Betrachter nicht gefunden: " + viewerUsername));
+
+        boolean isViewerOrganizer = meeting.getCreator().getId().equals(viewer.getId());
 
-        Page<MeetingParticipantDetailsDto> participantsPage = new PageImpl<>(pageContent, pageable,
-                filteredParticipants.size());
+        // Only the organizer gets to see blocked users
+        List<ParticipationStatus> statuses = isViewerOrganizer
+                ? List.of(ParticipationStatus.ACTIVE, ParticipationStatus.BLOCKED)
+                : List.of(ParticipationStatus.ACTIVE);
+        String pattern = StringUtils.hasText(searchTerm) ? "%" + escapeLike(searchTerm.toLowerCase()) + "%" : "%";
+
+        // Paged, sorted, filtered and flagged in a single query plus its count
+        Page<MeetingParticipantDetailsDto> participantsPage = meetingParticipationRepository
+                .findParticipants(meetingId, statuses, pattern,
+                        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
         return new MeetingParticipantsPageDto(participantsPage, isViewerOrganizer, meeting.getTitle());
     }
 
+    // Typed % and _ are matched literally, like the substring search this replaced
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     @Transactional(readOnly = true)
     public Page<UserProfileMeetingDto> getUserParticipatedMeetings(Long userId, Pageable pageable) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Benutzer nicht gefunden"));
 
-        Page<Meeting> meetingsPage = meetingRepository.findMeetingsByParticipantOrderByDateTimeAsc(user, pageable);
-
-        LocalDateTime now = LocalDateTime.now();
+        // The status is kept up to date by MeetingLifecycleScheduler
+        return meetingRepository.findParticipatedMeetingsIncludingArchive(user.getId(), pageable);
+    }
 
-        return meetingsPage.map(meeting -> {
-            String status;
-            LocalDateTime meetingEndTime = meeting.getDateTime().plusHours(2);
+    /**
+     * Returns a page of the user's upcoming meetings, soonest first, or of their past meetings,
+     * latest first. Each section is paged by its own (dateTime, id) cursor and without a count.
+     */
+    @Transactional(readOnly = true)
+    public UserMeetingTimelinePageDto getUserMeetingTimeline(Long userId, MeetingTimelineSection section,
+            String cursor, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Benutzer nicht gefunden");
+        }
 
-            if (meeting.getDateTime().isAfter(now)) {
-                status = "UPCOMING";
-            } else if (meetingEndTime.isBefore(now)) {
-                status = "COMPLETED";
-            } else {
-                status = "ONGOING";
+        MeetingSearchCursor after = null;
+        if (StringUtils.hasText(cursor)) {
+            try {
+                after = MeetingSearchCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Ungültiger Cursor.");
             }
-            return UserProfileMeetingDto.fromEntity(meeting, status);
-        });
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime afterDateTime = after != null ? after.getDateTime() : null;
+        Long afterId = after != null ? after.getId() : null;
+        // One extra row tells us whether another page exists without running a count query
+        List<UserProfileMeetingDto> meetings = section == MeetingTimelineSection.PAST
+                ? meetingRepository.findPastParticipatedMeetingsIncludingArchive(userId, now, afterDateTime, afterId,
+                        pageSize + 1)
+                : meetingRepository.findUpcomingParticipatedMeetings(userId, now, afterDateTime, afterId,
+                        pageSize + 1);
+
+        boolean hasNext = meetings.size() > pageSize;
+        List<UserProfileMeetingDto> content = hasNext ? meetings.subList(0, pageSize) : meetings;
+
+        String nextCursor = null;
+        if (hasNext) {
+            UserProfileMeetingDto last = content.get(content.size() - 1);
+            nextCursor = new MeetingSearchCursor(last.getDateTime(), last.getId()).encode();
+        }
+        return new UserMeetingTimelinePageDto(section, content, nextCursor, pageSize);
+    }
+
+    /**
+     * Returns the ETag of the meeting details for the viewer without querying the database, or
+     * null if the details are not cached.
+     */
+    public String getMeetingDetailsETag(Long meetingId, String currentUsername) {
+        return meetingDetailCache.findETag(meetingId, currentUsername);
     }
 
     @Transactional(readOnly = true)
     public MeetingDetailDto getMeetingDetailsById(Long meetingId, String currentUsername) {
+        MeetingDetailCache.CachedMeetingDetail cached = meetingDetailCache.get(meetingId,
+                () -> loadSharedMeetingDetails(meetingId));
+        // The organizer's own participation is checked like any other, as they may have left an empty meeting
+        boolean isActiveMember = currentUsername != null && !currentUsername.isBlank()
+                && meetingRepository.isParticipantByUsername(meetingId, currentUsername);
+        MeetingDetailDto dto = toViewerDetails(cached, currentUsername, isActiveMember);
+
+        logger.debug(
+                "Details für Meeting ID {} abgerufen. Aktueller Benutzer: {}. Ist Organisator: {}. Mitgliedschaftsstatus: {}",
+                meetingId, currentUsername, dto.isCurrentUserOrganizer(), dto.getCurrentUserMembership());
+
+        return dto;
+    }
+
+    /**
+     * Returns the details of several meetings in the requested order, skipping unknown ids. Cached
+     * meetings are reused, and the rest is loaded with a fixed number of IN-list queries.
+     */
+    @Transactional(readOnly = true)
+    public List<MeetingDetailDto> getMeetingDetailsByIds(List<Long> meetingIds, String currentUsername) {
+        List<Long> requestedIds = meetingIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (requestedIds.size() > MAX_BATCH_DETAILS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Es können höchstens " + MAX_BATCH_DETAILS + " Meetings auf einmal abgerufen werden.");
+        }
+        if (requestedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, MeetingDetailCache.CachedMeetingDetail> cached = meetingDetailCache.getAll(requestedIds,
+                this::loadAllSharedMeetingDetails);
+        Set<Long> memberships = currentUsername != null && !currentUsername.isBlank()
+                ? new HashSet<>(meetingRepository.findParticipatingMeetingIds(cached.keySet(), currentUsername))
+                : Set.of();
+        return cached.entrySet().stream()
+                .map(entry -> toViewerDetails(entry.getValue(), currentUsername,
+                        memberships.contains(entry.getKey())))
+                .toList();
+    }
+
+    private MeetingDetailDto toViewerDetails(MeetingDetailCache.CachedMeetingDetail cached, String currentUsername,
+            boolean isActiveMember) {
+        MeetingDetailDto shared = cached.getDetail();
+
+        MeetingDetailDto dto = new MeetingDetailDto();
+        dto.setId(shared.getId());
+        dto.setTitle(shared.getTitle());
+        dto.setDescription(shared.getDescription());
+        dto.setDateTime(shared.getDateTime());
+        dto.setLocation(shared.getLocation());
+        dto.setFormat(shared.getFormat());
+        dto.setMeetingTypeNames(shared.getMeetingTypeNames());
+        dto.setMaxParticipants(shared.getMaxParticipants());
+        dto.setOrganizer(shared.getOrganizer());
+        dto.setParticipantsPreview(shared.getParticipantsPreview());
+        dto.setTotalParticipants(shared.getTotalParticipants());
+        dto.setParticipantCount(shared.getParticipantCount());
+
+        boolean isOrganizer = currentUsername != null && currentUsername.equals(cached.getCreatorUsername());
+        dto.setCurrentUserOrganizer(isOrganizer);
+        dto.setCurrentUserMembership(
+                isActiveMember ? CurrentUserMeetingMembership.MEMBER : CurrentUserMeetingMembership.NOT_MEMBER);
+        dto.setETag(meetingDetailCache.eTag(cached, currentUsername));
+        return dto;
+    }
+
+    // Everything in the details that does not depend on the viewer
+    private MeetingDetailCache.CachedMeetingDetail loadSharedMeetingDetails(Long meetingId) {
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Meeting nicht gefunden"));
+        return toSharedDetails(meeting, participantPreview.findUsers(meetingId));
+    }
 
-        final User currentUser = (currentUsername != null && !currentUsername.isBlank())
-                ? userRepository.findByUsername(currentUsername).orElse(null)
-                : null;
+    // Meeting, creator and types in one query, the previewed users of all meetings in a second
+    private Map<Long, MeetingDetailCache.CachedMeetingDetail> loadAllSharedMeetingDetails(
+            Collection<Long> meetingIds) {
+        List<Meeting> meetings = meetingRepository.findWithCreatorAndTypesByIds(meetingIds);
+        Map<Long, List<User>> previews = participantPreview.findUsers(meetings);
+        return meetings.stream().collect(Collectors.toMap(Meeting::getId,
+                meeting -> toSharedDetails(meeting, previews.get(meeting.getId()))));
+    }
 
+    private MeetingDetailCache.CachedMeetingDetail toSharedDetails(Meeting meeting, List<User> previewUsers) {
         MeetingDetailDto dto = new MeetingDetailDto();
         dto.setId(meeting.getId());
         dto.setTitle(meeting.getTitle());
@@ -492,7 +997,7 @@ public class MeetingService {
         dto.setMeetingTypeNames(
                 meeting.getMeetingTypes().stream()
                         .map(Interest::getName)
-                        .collect(Collectors.toList()));
+                        .toList());
         dto.setMaxParticipants(meeting.getMaxParticipants());
 
         User organizerEntity = meeting.getCreator();
@@ -503,73 +1008,98 @@ public class MeetingService {
                 organizerEntity.getAvatarUrl(),
                 true));
 
-        List<BlockedMeetingParticipant> blockedForThisMeeting = blockedMeetingParticipantRepository
-                .findByMeeting(meeting);
-        Set<Long> blockedUserIds = blockedForThisMeeting.stream()
-                .map(bmp -> bmp.getUser().getId())
-                .collect(Collectors.toSet());
-
-        List<MeetingParticipantPreviewDto> preview = meeting.getParticipants().stream()
-                .filter(p -> !p.getId().equals(organizerEntity.getId()))
-                .filter(p -> !blockedUserIds.contains(p.getId()))
-                .limit(PARTICIPANTS_PREVIEW_SIZE - 1)
+        List<MeetingParticipantPreviewDto> preview = previewUsers.stream()
                 .map(p -> new MeetingParticipantPreviewDto(
                         p.getId(),
                         p.getFirstName(),
                         p.getLastName(),
                         p.getAvatarUrl(),
                         false))
-                .collect(Collectors.toList());
+                .toList();
         dto.setParticipantsPreview(preview);
 
-        long activeParticipantCount = meeting.getParticipants().stream()
-                .filter(p -> !blockedUserIds.contains(p.getId()))
-                .count();
-        dto.setTotalParticipants((int) activeParticipantCount);
-        dto.setParticipantCount((int) activeParticipantCount);
-
-        if (currentUser != null) {
-            dto.setCurrentUserOrganizer(currentUser.getId().equals(organizerEntity.getId()));
-            boolean isActiveMember = meeting.getParticipants().stream()
-                    .anyMatch(p -> p.getId().equals(currentUser.getId()))
-                    && !blockedUserIds.contains(currentUser.getId());
-            dto.setCurrentUserMembership(
-                    isActiveMember ? CurrentUserMeetingMembership.MEMBER : CurrentUserMeetingMembership.NOT_MEMBER);
-        } else {
-            dto.setCurrentUserOrganizer(false);
-            dto.setCurrentUserMembership(CurrentUserMeetingMembership.NOT_MEMBER);
-        }
+        // Blocking removes the user from the participants, so the counter only covers active members
+        dto.setTotalParticipants(meeting.getParticipantCount());
+        dto.setParticipantCount(meeting.getParticipantCount());
 
-        logger.info(
-                "Details für Meeting ID {} abgerufen. Aktueller Benutzer: {}. Ist Organisator: {}. Mitgliedschaftsstatus: {}",
-                meetingId, currentUsername, dto.isCurrentUserOrganizer(), dto.getCurrentUserMembership());
-
-        return dto;
+        return new MeetingDetailCache.CachedMeetingDetail(dto, organizerEntity.getUsername());
     }
 
     @Transactional
     public void deleteMeeting(Long meetingId, String organizerUsername) {
-        Meeting meeting = meetingRepository.findById(meetingId)
+        Long creatorId = meetingRepository.findCreatorId(meetingId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Meeting nicht gefunden"));
 
         User organizer = userRepository.findByUsername(organizerUsername)
                 .orElseThrow(() -> new UsernameNotFoundException("Organisator nicht gefunden: " + organizerUsername));
 
-        if (!meeting.getCreator().getId().equals(organizer.getId())) {
-            logger.warn("User {} (ID: {}) attempted to delete meeting {} (ID: {}) but is not the organizer.",
-                    organizer.getUsername(), organizer.getId(), meeting.getTitle(), meeting.getId());
+        if (!creatorId.equals(organizer.getId())) {
+            logger.warn("User {} (ID: {}) attempted to delete meeting ID {} but is not the organizer.",
+                    organizer.getUsername(), organizer.getId(), meetingId);
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Nur der Organisator kann das Meeting löschen.");
         }
 
-        List<BlockedMeetingParticipant> blockedEntries = blockedMeetingParticipantRepository.findByMeeting(meeting);
-        if (!blockedEntries.isEmpty()) {
-            blockedMeetingParticipantRepository.deleteAllInBatch(blockedEntries);
-            logger.info("Deleted {} blocked participant entries for meeting ID {}.", blockedEntries.size(), meetingId);
+        doDeleteMeetings(List.of(meetingId));
+        logger.info("Meeting ID {} successfully deleted by organizer {}.", meetingId, organizerUsername);
+    }
+
+    /**
+     * Deletes the given meetings for an administrator. Meetings are deleted in batches, each in its
+     * own transaction, so a large job never holds locks on more than one batch at a time.
+     *
+     * @return the number of meetings that existed and were deleted
+     */
+    public int deleteMeetingsAsAdmin(Collection<Long> meetingIds, String adminUsername) {
+        if (!adminUsernames.contains(adminUsername)) {
+            logger.warn("User {} attempted a bulk delete of {} meetings without admin rights.", adminUsername,
+                    meetingIds.size());
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN,
+                    "Nur Administratoren können Meetings gesammelt löschen.");
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Long> distinctIds = meetingIds.stream().filter(Objects::nonNull).distinct().toList();
+        int deleted = 0;
+        for (int from = 0; from < distinctIds.size(); from += BULK_DELETE_BATCH_SIZE) {
+            List<Long> batch = distinctIds.subList(from, Math.min(from + BULK_DELETE_BATCH_SIZE, distinctIds.size()));
+            deleted += transactionTemplate.execute(status -> doDeleteMeetings(batch));
         }
+        logger.info("Admin {} deleted {} of {} requested meetings.", adminUsername, deleted, distinctIds.size());
+        return deleted;
+    }
 
-        meetingRepository.delete(meeting);
-        logger.info("Meeting '{}' (ID: {}) successfully deleted by organizer {}.",
-                meeting.getTitle(), meeting.getId(), organizerUsername);
+    // Removes meetings and everything referencing them with set-based statements, without loading entities
+    private int doDeleteMeetings(Collection<Long> meetingIds) {
+        List<Object[]> rows = meetingRepository.findDeletionState(meetingIds);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Long> existingIds = rows.stream().map(row -> (Long) row[0]).toList();
+
+        Map<Long, List<String>> typeNames = meetingRepository.findTypeNames(existingIds).stream()
+                .collect(Collectors.groupingBy(row -> (Long) row[0],
+                        Collectors.mapping(row -> (String) row[1], Collectors.toList())));
+        Map<Long, List<Long>> activeUserIds = meetingParticipationRepository.findActiveUserIdsByMeetingIds(existingIds)
+                .stream()
+                .collect(Collectors.groupingBy(row -> (Long) row[0],
+                        Collectors.mapping(row -> (Long) row[1], Collectors.toList())));
+
+        meetingWaitlistRepository.deleteByMeetingIds(existingIds);
+        int participations = meetingParticipationRepository.deleteByMeetingIds(existingIds);
+        meetingRepository.deleteMeetingTypes(existingIds);
+        int deleted = meetingRepository.deleteByIds(existingIds);
+        logger.info("Deleted {} meetings with {} participation entries.", deleted, participations);
+
+        for (Object[] row : rows) {
+            Long meetingId = (Long) row[0];
+            LocalDateTime dateTime = (LocalDateTime) row[5];
+            quotaService.membershipsRemoved(activeUserIds.getOrDefault(meetingId, List.of()), dateTime);
+            quotaService.meetingUnscheduled((Long) row[6], dateTime);
+            eventPublisher.publishEvent(MeetingChangedEvent.deleted(new MeetingSnapshot(meetingId, (String) row[1],
+                    (String) row[2], (MeetingFormat) row[3], (String) row[4], dateTime,
+                    typeNames.getOrDefault(meetingId, List.of()))));
+        }
+        return deleted;
     }
 
     @Transactional
@@ -592,14 +1122,11 @@ public class MeetingService {
                     "Vergangene Meetings können nicht mehr bearbeitet werden.");
         }
 
-        if (!organizer.isPro() && dto.getDateTime() != null && !dto.getDateTime().equals(meeting.getDateTime())) {
-            LocalDateTime newDateTime = dto.getDateTime();
-            LocalDateTime startOfWeek = newDateTime.truncatedTo(ChronoUnit.DAYS)
-                    .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).with(LocalTime.MIN);
-            LocalDateTime endOfWeek = startOfWeek.plusDays(6).with(LocalTime.MAX);
+        MeetingSnapshot previous = MeetingSnapshot.of(meeting);
 
-            long otherMeetingsInNewWeek = meetingRepository.countByCreatorAndDateTimeBetweenAndIdNot(
-                    organizer, startOfWeek, endOfWeek, meeting.getId());
+        if (!organizer.isPro() && dto.getDateTime() != null && !dto.getDateTime().equals(meeting.getDateTime())) {
+            long otherMeetingsInNewWeek = quotaService.getOtherMeetingsInWeek(organizer, dto.getDateTime(),
+                    meeting.getDateTime());
             if (otherMeetingsInNewWeek >= MAX_MEETINGS_PER_WEEK_FREE) {
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN,
                         "Aktualisierung würde dazu führen, dass Sie mehr als " + MAX_MEETINGS_PER_WEEK_FREE
@@ -630,17 +1157,26 @@ public class MeetingService {
             meeting.setLocation(dto.getLocation());
         }
 
-        if (dto.getDateTime() != null) {
+        if (dto.getDateTime() != null && !dto.getDateTime().equals(meeting.getDateTime())) {
+            quotaService.meetingUnscheduled(organizer.getId(), meeting.getDateTime());
+            quotaService.meetingScheduled(organizer.getId(), dto.getDateTime());
             meeting.setDateTime(dto.getDateTime());
+            meetingRepository.resetReminder(meetingId);
+            meetingParticipationRepository.updateMeetingDateTime(meetingId, dto.getDateTime());
         }
 
         if (dto.getMaxParticipants() != null) {
-            int currentParticipantsCount = meeting.getParticipants().size();
-            if (dto.getMaxParticipants() < currentParticipantsCount) {
+            int currentParticipantsCount = meeting.getParticipantCount();
+            // Checked against the stored counter so that joins running concurrently are taken into account
+            if (dto.getMaxParticipants() < currentParticipantsCount
+                    || meetingRepository.updateMaxParticipantsIfFits(meetingId, dto.getMaxParticipants()) == 0) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                         "Die maximale Teilnehmerzahl kann nicht kleiner sein als die aktuelle Anzahl der Teilnehmer ("
                                 + currentParticipantsCount + ").");
             }
+            if (meeting.getMaxParticipants() != null && dto.getMaxParticipants() > meeting.getMaxParticipants()) {
+                eventPublisher.publishEvent(new MeetingSeatsFreedEvent(meetingId));
+            }
             meeting.setMaxParticipants(dto.getMaxParticipants());
         }
 
@@ -670,6 +1206,7 @@ public class MeetingService {
         Meeting updatedMeeting = meetingRepository.save(meeting);
         logger.info("Meeting '{}' (ID: {}) updated by organizer {}.",
                 updatedMeeting.getTitle(), updatedMeeting.getId(), organizerUsername);
+        eventPublisher.publishEvent(MeetingChangedEvent.updated(previous, MeetingSnapshot.of(updatedMeeting)));
 
         return MeetingDto.fromEntity(updatedMeeting);
     }
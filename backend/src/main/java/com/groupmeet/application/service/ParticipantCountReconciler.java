@@ -0,0 +1,66 @@
+package com.groupmeet.application.service;
+
+import com.groupmeet.application.event.MeetingMembersChangedEvent;
+import com.groupmeet.application.repository.MeetingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Compares the denormalized participant counter of every meeting with the rows in the
+ * participant join table and repairs meetings whose counter has drifted.
+ */
+@Component
+public class ParticipantCountReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticipantCountReconciler.class);
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingParticipantPreview participantPreview;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // A void listener, as Spring would publish a returned value as another event
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${app.meetings.participant-count.reconcile-cron:0 15 * * * *}")
+    @Transactional
+    public int reconcile() {
+        List<Object[]> drifted = meetingRepository.findParticipantCountDrift();
+        if (drifted.isEmpty()) {
+            logger.debug("Participant counters are consistent.");
+            return 0;
+        }
+
+        for (Object[] row : drifted) {
+            logger.warn("Participant counter of meeting {} drifted: stored {}, actual {}.", row[0], row[1], row[2]);
+        }
+
+        // Counts are recalculated inside the UPDATE so joins committed since the check are not lost
+        List<Long> meetingIds = drifted.stream()
+                .map(row -> ((Number) row[0]).longValue())
+                .toList();
+        int repaired = meetingRepository.recalculateParticipantCounts(meetingIds);
+        // Whatever made the counter drift may have left the stored preview stale as well
+        meetingIds.forEach(participantPreview::refresh);
+        meetingIds.forEach(meetingId -> eventPublisher.publishEvent(new MeetingMembersChangedEvent(meetingId)));
+        logger.info("Repaired participant counters of {} meetings.", repaired);
+        return repaired;
+    }
+}
@@ -0,0 +1,216 @@
+package com.groupmeet.application.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.groupmeet.application.model.User;
+import com.groupmeet.application.repository.FriendshipRepository;
+import com.groupmeet.application.repository.MeetingRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the counters behind the free-tier limits in memory: meetings created per ISO week, active
+ * joined meetings and friends of a user. A counter is loaded from the database on first use and
+ * afterwards kept up to date by the mutating service methods once their transaction commits.
+ * Counters are reloaded after the reconcile interval, which also drops meetings that have passed
+ * from the active joined count.
+ */
+@Service
+public class QuotaService {
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private FriendshipRepository friendshipRepository;
+
+    @Value("${app.quota.ledger.max-size:10000}")
+    private long maxSize;
+
+    @Value("${app.quota.ledger.reconcile-minutes:5}")
+    private long reconcileMinutes;
+
+    private Cache<WeekKey, AtomicLong> meetingsPerWeek;
+    private Cache<Long, AtomicLong> activeJoinedMeetings;
+    private Cache<Long, AtomicLong> friends;
+
+    @PostConstruct
+    void createLedger() {
+        meetingsPerWeek = newCounterCache();
+        activeJoinedMeetings = newCounterCache();
+        friends = newCounterCache();
+    }
+
+    private <K> Cache<K, AtomicLong> newCounterCache() {
+        return CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(reconcileMinutes, TimeUnit.MINUTES)
+                .build();
+    }
+
+    public long getMeetingsInWeek(User creator, LocalDateTime dateTime) {
+        LocalDate weekStart = weekStart(dateTime);
+        return load(meetingsPerWeek, new WeekKey(creator.getId(), weekStart),
+                () -> meetingRepository.countByCreatorAndDateTimeBetween(creator, weekStart.atStartOfDay(),
+                        weekStart.plusDays(6).atTime(LocalTime.MAX)));
+    }
+
+    /**
+     * Counts the creator's meetings in the week of dateTime without the meeting that is being moved
+     * away from currentDateTime.
+     */
+    public long getOtherMeetingsInWeek(User creator, LocalDateTime dateTime, LocalDateTime currentDateTime) {
+        long meetings = getMeetingsInWeek(creator, dateTime);
+        return weekStart(dateTime).equals(weekStart(currentDateTime)) ? Math.max(0, meetings - 1) : meetings;
+    }
+
+    public long getActiveJoinedMeetings(User user) {
+        return load(activeJoinedMeetings, user.getId(),
+                () -> meetingRepository.countActiveMeetingsUserIsParticipantIn(user, LocalDateTime.now()));
+    }
+
+    /**
+     * Returns the active joined meeting count per user id, loading all missing counters with one query.
+     */
+    public Map<Long, Long> getActiveJoinedMeetings(Collection<User> users) {
+        Map<Long, Long> counts = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (User user : users) {
+            AtomicLong counter = activeJoinedMeetings.getIfPresent(user.getId());
+            if (counter != null) {
+                counts.put(user.getId(), counter.get());
+            } else {
+                missing.add(user.getId());
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, Long> loaded = meetingRepository.countActiveMeetingsByParticipants(missing, LocalDateTime.now())
+                    .stream()
+                    .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).longValue()));
+            for (Long userId : missing) {
+                long count = loaded.getOrDefault(userId, 0L);
+                activeJoinedMeetings.asMap().putIfAbsent(userId, new AtomicLong(count));
+                counts.put(userId, count);
+            }
+        }
+        return counts;
+    }
+
+    public long getFriends(User user) {
+        return load(friends, user.getId(), () -> friendshipRepository.countAcceptedFriendsForUser(user));
+    }
+
+    public void meetingScheduled(Long creatorId, LocalDateTime dateTime) {
+        adjustAfterCommit(meetingsPerWeek, new WeekKey(creatorId, weekStart(dateTime)), 1);
+    }
+
+    public void meetingUnscheduled(Long creatorId, LocalDateTime dateTime) {
+        adjustAfterCommit(meetingsPerWeek, new WeekKey(creatorId, weekStart(dateTime)), -1);
+    }
+
+    public void membershipAdded(Long userId, LocalDateTime meetingDateTime) {
+        membershipsChanged(List.of(userId), meetingDateTime, 1);
+    }
+
+    public void membershipsAdded(Collection<Long> userIds, LocalDateTime meetingDateTime) {
+        membershipsChanged(userIds, meetingDateTime, 1);
+    }
+
+    public void membershipRemoved(Long userId, LocalDateTime meetingDateTime) {
+        membershipsChanged(List.of(userId), meetingDateTime, -1);
+    }
+
+    public void membershipsRemoved(Collection<Long> userIds, LocalDateTime meetingDateTime) {
+        membershipsChanged(userIds, meetingDateTime, -1);
+    }
+
+    // Past meetings are not part of the active joined count
+    private void membershipsChanged(Collection<Long> userIds, LocalDateTime meetingDateTime, int delta) {
+        if (meetingDateTime.isAfter(LocalDateTime.now())) {
+            userIds.forEach(userId -> adjustAfterCommit(activeJoinedMeetings, userId, delta));
+        }
+    }
+
+    public void friendsChanged(Long userId, int delta) {
+        adjustAfterCommit(friends, userId, delta);
+    }
+
+    private static <K> long load(Cache<K, AtomicLong> cache, K key, LongSupplier loader) {
+        try {
+            return cache.get(key, () -> new AtomicLong(loader.getAsLong())).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Kontingent konnte nicht geladen werden.", e.getCause());
+        }
+    }
+
+    // Counters not in the ledger are loaded with the committed value later, so only present ones are adjusted
+    private static <K> void adjustAfterCommit(Cache<K, AtomicLong> cache, K key, int delta) {
+        Runnable adjust = () -> {
+            AtomicLong counter = cache.getIfPresent(key);
+            if (counter != null) {
+                counter.addAndGet(delta);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adjust.run();
+                }
+            });
+        } else {
+            adjust.run();
+        }
+    }
+
+    private static LocalDate weekStart(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static final class WeekKey {
+        private final Long userId;
+        private final LocalDate weekStart;
+
+        private WeekKey(Long userId, LocalDate weekStart) {
+            this.userId = userId;
+            this.weekStart = weekStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof WeekKey other)) {
+                return false;
+            }
+            return userId.equals(other.userId) && weekStart.equals(other.weekStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, weekStart);
+        }
+    }
+}
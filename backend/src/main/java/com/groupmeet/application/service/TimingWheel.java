@@ -0,0 +1,159 @@
+package com.groupmeet.application.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel. Each level has {@code wheelSize} buckets of one tick each, and a
+ * timer too far out for a level goes to the next coarser one, whose tick is the whole span of the
+ * level below. Adding and cancelling a timer is constant time however many timers are pending.
+ * When the clock reaches a bucket of a coarser level, its timers are moved down into finer
+ * buckets or fired. Timers fire at most one tick early.
+ *
+ * <p>Not thread-safe; callers serialize access.
+ */
+public class TimingWheel<T> {
+
+    private final Level root;
+
+    // Non-empty buckets of all levels ordered by the time they are due
+    private final PriorityQueue<Bucket> dueBuckets = new PriorityQueue<>(
+            (a, b) -> Long.compare(a.expiration, b.expiration));
+
+    private int size;
+
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        this.root = new Level(tickMs, wheelSize, startMs);
+    }
+
+    /**
+     * Schedules a payload at the given time.
+     *
+     * @return the timer, or null if the time has already been reached and the payload was not added
+     */
+    public Timer<T> schedule(long expirationMs, T payload) {
+        Timer<T> timer = new Timer<>(expirationMs, payload);
+        if (!root.add(timer)) {
+            return null;
+        }
+        size++;
+        return timer;
+    }
+
+    public void cancel(Timer<T> timer) {
+        if (timer != null && timer.bucket != null) {
+            timer.bucket.timers.remove(timer);
+            timer.bucket = null;
+            size--;
+        }
+    }
+
+    /**
+     * Moves the clock to the given time and hands every timer that became due to the consumer.
+     */
+    public void advanceTo(long nowMs, Consumer<T> expired) {
+        Bucket bucket;
+        while ((bucket = dueBuckets.peek()) != null && bucket.expiration <= nowMs) {
+            dueBuckets.poll();
+            root.advanceClock(bucket.expiration);
+            List<Timer<T>> timers = new ArrayList<>(bucket.timers);
+            bucket.timers.clear();
+            bucket.expiration = -1;
+            for (Timer<T> timer : timers) {
+                timer.bucket = null;
+                size--;
+                // Timers of coarser levels land in finer buckets here or fire when they are due
+                if (root.add(timer)) {
+                    size++;
+                } else {
+                    expired.accept(timer.payload);
+                }
+            }
+        }
+        root.advanceClock(nowMs);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public static final class Timer<T> {
+        private final long expirationMs;
+        private final T payload;
+        private TimingWheel<T>.Bucket bucket;
+
+        private Timer(long expirationMs, T payload) {
+            this.expirationMs = expirationMs;
+            this.payload = payload;
+        }
+
+        public long getExpirationMs() {
+            return expirationMs;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+    }
+
+    private final class Bucket {
+        private final Set<Timer<T>> timers = new LinkedHashSet<>();
+        private long expiration = -1;
+    }
+
+    private final class Level {
+        private final long tickMs;
+        private final int wheelSize;
+        private final long intervalMs;
+        private final List<Bucket> buckets;
+        private long currentTime;
+        private Level overflow;
+
+        private Level(long tickMs, int wheelSize, long startMs) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.intervalMs = tickMs * wheelSize;
+            this.currentTime = startMs - (startMs % tickMs);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new Bucket());
+            }
+        }
+
+        private boolean add(Timer<T> timer) {
+            long expiration = timer.expirationMs;
+            if (expiration < currentTime + tickMs) {
+                return false;
+            }
+            if (expiration < currentTime + intervalMs) {
+                long virtualId = expiration / tickMs;
+                Bucket bucket = buckets.get((int) (virtualId % wheelSize));
+                bucket.timers.add(timer);
+                timer.bucket = bucket;
+                long bucketExpiration = virtualId * tickMs;
+                if (bucket.expiration != bucketExpiration) {
+                    bucket.expiration = bucketExpiration;
+                    dueBuckets.add(bucket);
+                }
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level(intervalMs, wheelSize, currentTime);
+            }
+            return overflow.add(timer);
+        }
+
+        private void advanceClock(long timeMs) {
+            if (timeMs >= currentTime + tickMs) {
+                currentTime = timeMs - (timeMs % tickMs);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.groupmeet.application.service;
+
+import com.groupmeet.application.event.MeetingSeatsFreedEvent;
+import com.groupmeet.application.repository.MeetingWaitlistRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects meetings with freed seats and fills them from their waitlists in the background.
+ * Several seats freed in quick succession are handled by one promotion run per meeting.
+ */
+@Component
+public class WaitlistPromoter {
+
+    private static final Logger logger = LoggerFactory.getLogger(WaitlistPromoter.class);
+
+    private final Set<Long> pendingMeetingIds = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingWaitlistRepository meetingWaitlistRepository;
+
+    @Value("${app.meetings.waitlist.batch-size:50}")
+    private int batchSize;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatsFreed(MeetingSeatsFreedEvent event) {
+        pendingMeetingIds.add(event.getMeetingId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.meetings.waitlist.promotion-delay-ms:2000}")
+    public int promotePending() {
+        List<Long> meetingIds = new ArrayList<>(pendingMeetingIds);
+        int promotedTotal = 0;
+        for (Long meetingId : meetingIds) {
+            // Removed before promoting, so seats freed meanwhile schedule the meeting again
+            pendingMeetingIds.remove(meetingId);
+            try {
+                int promoted = meetingService.promoteFromWaitlist(meetingId, batchSize);
+                if (promoted > 0) {
+                    // More seats or entries may be left; the next run stops at once if not
+                    pendingMeetingIds.add(meetingId);
+                }
+                promotedTotal += promoted;
+            } catch (Exception e) {
+                logger.error("Failed to promote waitlist of meeting {}.", meetingId, e);
+            }
+        }
+        if (promotedTotal > 0) {
+            logger.info("Promoted {} waitlisted users in {} meetings.", promotedTotal, meetingIds.size());
+        }
+        return promotedTotal;
+    }
+
+    // Catches seats freed without an event, e.g. by the participant count reconciliation
+    @Scheduled(cron = "${app.meetings.waitlist.sweep-cron:0 */10 * * * *}")
+    public void sweep() {
+        pendingMeetingIds.addAll(meetingWaitlistRepository.findMeetingIdsWithFreeSeats());
+    }
+}
@@ -0,0 +1,189 @@
+package com.groupmeet.application.config;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Idempotency Filter Tests")
+class IdempotencyFilterTest {
+
+    private IdempotencyFilter filter;
+    private AtomicInteger executions;
+    private int responseStatus;
+    private String receivedBody;
+
+    @BeforeEach
+    void setUp() {
+        Cache<String, IdempotencyFilter.CachedResponse> cache = CacheBuilder.newBuilder().maximumSize(100).build();
+        filter = new IdempotencyFilter();
+        ReflectionTestUtils.setField(filter, "idempotencyResponseCache", cache);
+        ReflectionTestUtils.setField(filter, "maxBodyBytes", 64);
+        executions = new AtomicInteger();
+        responseStatus = 200;
+        authenticate("testuser1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("A retried request with the same key should get the first response without running again")
+    void retry_withSameKey_shouldReplayResponse() throws Exception {
+        MockHttpServletResponse first = send("POST", "/api/meetings/7/join", "key-1");
+        MockHttpServletResponse retry = send("POST", "/api/meetings/7/join", "key-1");
+
+        assertEquals(1, executions.get());
+        assertEquals(200, retry.getStatus());
+        assertEquals(first.getContentAsString(), retry.getContentAsString());
+        assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("Keys should be scoped to the user and the path")
+    void requests_withOtherUserOrPath_shouldRunAgain() throws Exception {
+        send("POST", "/api/meetings/7/join", "key-1");
+        send("POST", "/api/meetings/7/leave", "key-1");
+        authenticate("testuser2");
+        send("POST", "/api/meetings/7/join", "key-1");
+
+        assertEquals(3, executions.get());
+    }
+
+    @Test
+    @DisplayName("Server errors should not be kept so the client can retry")
+    void retry_afterServerError_shouldRunAgain() throws Exception {
+        responseStatus = 500;
+        send("POST", "/api/friends/requests/3", "key-1");
+        responseStatus = 200;
+        MockHttpServletResponse retry = send("POST", "/api/friends/requests/3", "key-1");
+
+        assertEquals(2, executions.get());
+        assertEquals(200, retry.getStatus());
+        assertNull(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("Reusing a key for a different body should be rejected instead of replayed")
+    void retry_withOtherBody_shouldBeRejected() throws Exception {
+        send("POST", "/api/meetings/7/participants", "key-1", "{\"userIds\":[3]}");
+        assertEquals("{\"userIds\":[3]}", receivedBody);
+
+        MockHttpServletResponse sameBody = send("POST", "/api/meetings/7/participants", "key-1", "{\"userIds\":[3]}");
+        MockHttpServletResponse otherBody = send("POST", "/api/meetings/7/participants", "key-1", "{\"userIds\":[4]}");
+
+        assertEquals(1, executions.get());
+        assertEquals("true", sameBody.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(422, otherBody.getStatus());
+        assertNull(otherBody.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("Requests without a key or outside the covered paths should not be filtered")
+    void shouldNotFilter_withoutKeyOrOtherPath() {
+        MockHttpServletRequest withoutKey = new MockHttpServletRequest("POST", "/api/meetings/7/join");
+        MockHttpServletRequest otherPath = new MockHttpServletRequest("POST", "/api/auth/login");
+        otherPath.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1");
+        MockHttpServletRequest read = new MockHttpServletRequest("GET", "/api/meetings/7");
+        read.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1");
+
+        assertTrue(filter.shouldNotFilter(withoutKey));
+        assertTrue(filter.shouldNotFilter(otherPath));
+        assertTrue(filter.shouldNotFilter(read));
+    }
+
+    @Test
+    @DisplayName("Bodies above the limit should be rejected before they are buffered")
+    void request_withOversizedBody_shouldBeRejected() throws Exception {
+        MockHttpServletResponse response = send("POST", "/api/meetings/7/participants", "key-1", "x".repeat(65));
+
+        assertEquals(413, response.getStatus());
+        assertEquals(0, executions.get());
+        assertEquals(200, send("POST", "/api/meetings/7/participants", "key-1", "x".repeat(64)).getStatus());
+    }
+
+    @Test
+    @DisplayName("The buffered body should also be readable through a read listener")
+    void bufferedBody_withReadListener_shouldDeliverBody() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/meetings/7/participants");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1");
+        request.setContent("{\"userIds\":[3]}".getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            ServletInputStream input = req.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    byte[] buffer = new byte[4];
+                    while (input.isReady() && !input.isFinished()) {
+                        int read = input.read(buffer);
+                        received.write(buffer, 0, read);
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allDataRead.set(true);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    fail(t);
+                }
+            });
+        });
+
+        assertTrue(allDataRead.get());
+        assertEquals("{\"userIds\":[3]}", received.toString(StandardCharsets.UTF_8));
+    }
+
+    private MockHttpServletResponse send(String method, String path, String key) throws Exception {
+        return send(method, path, key, "");
+    }
+
+    private MockHttpServletResponse send(String method, String path, String key, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            receivedBody = StreamUtils.copyToString(req.getInputStream(), StandardCharsets.UTF_8);
+            int execution = executions.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(responseStatus);
+            res.setContentType("application/json");
+            res.getWriter().write("{\"execution\":" + execution + "}");
+        };
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                username, null, AuthorityUtils.NO_AUTHORITIES));
+    }
+}
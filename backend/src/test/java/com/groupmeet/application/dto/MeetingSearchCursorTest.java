@@ -0,0 +1,48 @@
+package com.groupmeet.application.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Meeting Search Cursor Tests")
+class MeetingSearchCursorTest {
+
+    @Test
+    @DisplayName("A decoded cursor should equal the encoded one")
+    void decode_shouldRoundTrip() {
+        LocalDateTime dateTime = LocalDateTime.of(2026, 10, 17, 18, 30, 15, 123_456_000);
+
+        MeetingSearchCursor decoded = MeetingSearchCursor.decode(new MeetingSearchCursor(dateTime, 42L).encode());
+
+        assertEquals(dateTime, decoded.getDateTime());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    @DisplayName("Encoded cursors should be URL safe")
+    void encode_shouldBeUrlSafe() {
+        String token = new MeetingSearchCursor(LocalDateTime.of(2026, 1, 1, 0, 0), Long.MAX_VALUE).encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    @DisplayName("Malformed cursors should be rejected with IllegalArgumentException")
+    void decode_withMalformedToken_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> MeetingSearchCursor.decode("not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> MeetingSearchCursor.decode(encode("2026-10-17T18:30")));
+        assertThrows(IllegalArgumentException.class, () -> MeetingSearchCursor.decode(encode("|42")));
+        assertThrows(IllegalArgumentException.class, () -> MeetingSearchCursor.decode(encode("gestern|42")));
+        assertThrows(IllegalArgumentException.class,
+                () -> MeetingSearchCursor.decode(encode("2026-10-17T18:30|abc")));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
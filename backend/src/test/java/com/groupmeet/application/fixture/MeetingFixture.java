@@ -0,0 +1,57 @@
+package com.groupmeet.application.fixture;
+
+import com.groupmeet.application.model.Interest;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.model.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fixture for creating test meetings
+ */
+public class MeetingFixture {
+
+    /**
+     * Creates a meeting with the creator and the given users as active participants. Offline
+     * meetings take place in Berlin.
+     *
+     * @param title title of the meeting
+     * @param format format of the meeting
+     * @param dateTime start of the meeting
+     * @param creator organizer of the meeting
+     * @param participants further participants
+     * @return meeting, not yet persisted
+     */
+    public static Meeting createMeeting(String title, MeetingFormat format, LocalDateTime dateTime, User creator,
+            User... participants) {
+        Meeting meeting = new Meeting();
+        meeting.setTitle(title);
+        meeting.setFormat(format);
+        if (format == MeetingFormat.OFFLINE) {
+            meeting.setLocation("Berlin");
+        }
+        meeting.setDateTime(dateTime);
+        meeting.setCreator(creator);
+        meeting.addParticipant(creator);
+        for (User participant : participants) {
+            meeting.addParticipant(participant);
+        }
+        meeting.setParticipantCount(1 + participants.length);
+        return meeting;
+    }
+
+    /**
+     * Creates a meeting of the given type with the creator and the given users as active participants
+     *
+     * @param type meeting type
+     * @return meeting, not yet persisted
+     * @see #createMeeting(String, MeetingFormat, LocalDateTime, User, User...)
+     */
+    public static Meeting createMeeting(String title, MeetingFormat format, LocalDateTime dateTime, Interest type,
+            User creator, User... participants) {
+        Meeting meeting = createMeeting(title, format, dateTime, creator, participants);
+        meeting.getMeetingTypes().add(type);
+        return meeting;
+    }
+}
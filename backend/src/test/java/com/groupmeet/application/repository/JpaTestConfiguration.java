@@ -0,0 +1,16 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.model.Meeting;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Minimal configuration for JPA slice tests. DemoApplication carries an additional unfiltered
+ * component scan, so slice tests would otherwise load the whole application context.
+ */
+@Configuration
+@EntityScan(basePackageClasses = Meeting.class)
+@EnableJpaRepositories(basePackageClasses = MeetingRepository.class)
+public class JpaTestConfiguration {
+}
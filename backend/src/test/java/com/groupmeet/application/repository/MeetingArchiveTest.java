@@ -0,0 +1,190 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.dto.UserProfileMeetingDto;
+import com.groupmeet.application.event.MeetingChangedEvent;
+import com.groupmeet.application.fixture.MeetingFixture;
+import com.groupmeet.application.fixture.UserFixture;
+import com.groupmeet.application.model.ArchivedMeeting;
+import com.groupmeet.application.model.ArchivedMeetingParticipant;
+import com.groupmeet.application.model.Interest;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.model.MeetingParticipation;
+import com.groupmeet.application.model.ParticipationRole;
+import com.groupmeet.application.model.User;
+import com.groupmeet.application.service.MeetingArchiver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaTestConfiguration.class)
+@Import(MeetingArchiver.class)
+@RecordApplicationEvents
+@DisplayName("Meeting Archive Tests")
+class MeetingArchiveTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private ArchivedMeetingRepository archivedMeetingRepository;
+
+    @Autowired
+    private MeetingParticipationRepository meetingParticipationRepository;
+
+    @Autowired
+    private MeetingArchiver meetingArchiver;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private User creator;
+    private User participant;
+    private User blocked;
+    private Meeting oldMeeting;
+    private Meeting recentMeeting;
+    private Meeting upcomingMeeting;
+
+    @BeforeEach
+    void setUp() {
+        Interest sport = entityManager.persist(new Interest("Sport"));
+        creator = entityManager.persist(UserFixture.createTestMaleUser("creator"));
+        participant = entityManager.persist(UserFixture.createTestFemaleUser("participant"));
+        blocked = entityManager.persist(UserFixture.createTestMaleUser("blocked"));
+
+        oldMeeting = entityManager.persist(MeetingFixture.createMeeting("Altes Treffen", MeetingFormat.OFFLINE,
+                LocalDateTime.now().plusDays(1), sport, creator, participant));
+        recentMeeting = entityManager.persist(MeetingFixture.createMeeting("Letzte Woche", MeetingFormat.OFFLINE,
+                LocalDateTime.now().plusDays(1), sport, creator, participant));
+        upcomingMeeting = entityManager.persist(MeetingFixture.createMeeting("Nächste Woche", MeetingFormat.OFFLINE,
+                LocalDateTime.now().plusDays(1), sport, creator, participant));
+        MeetingParticipation blockedParticipation = new MeetingParticipation(oldMeeting, blocked,
+                ParticipationRole.PARTICIPANT);
+        blockedParticipation.block(creator);
+        entityManager.persist(blockedParticipation);
+        entityManager.flush();
+
+        // Meetings cannot be persisted in the past, so they are moved there afterwards
+        moveTo(oldMeeting, LocalDateTime.now().minusDays(30));
+        moveTo(recentMeeting, LocalDateTime.now().minusDays(3));
+        moveTo(upcomingMeeting, LocalDateTime.now().plusDays(7));
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should move meetings past the retention period with all their rows")
+    void archiveCompletedMeetings_shouldMoveOldMeetings() {
+        assertEquals(1, meetingArchiver.archiveCompletedMeetings());
+        entityManager.clear();
+
+        assertFalse(meetingRepository.existsById(oldMeeting.getId()));
+        assertTrue(meetingRepository.existsById(recentMeeting.getId()));
+        assertTrue(meetingRepository.existsById(upcomingMeeting.getId()));
+        assertTrue(meetingParticipationRepository.findAll().stream()
+                .noneMatch(p -> p.getMeeting().getId().equals(oldMeeting.getId())));
+
+        ArchivedMeeting archived = archivedMeetingRepository.findById(oldMeeting.getId()).orElseThrow();
+        assertEquals("Altes Treffen", archived.getTitle());
+        assertEquals(2, archived.getParticipantCount());
+        assertEquals(Set.of(creator.getId(), participant.getId()),
+                archived.getParticipants().stream().map(ArchivedMeetingParticipant::getUserId)
+                        .collect(Collectors.toSet()));
+        assertTrue(archived.getParticipants().stream()
+                .allMatch(p -> archived.getDateTime().equals(p.getDateTime())));
+        assertEquals(1, archived.getBlockedParticipants().size());
+        assertEquals(blocked.getId(), archived.getBlockedParticipants().iterator().next().getUserId());
+        assertEquals(List.of("Sport"), archived.getMeetingTypes().stream().map(Interest::getName).toList());
+
+        assertEquals(0, meetingArchiver.archiveCompletedMeetings());
+    }
+
+    @Test
+    @DisplayName("Archiving should announce each meeting as deleted so the in-memory indexes drop it")
+    void archiveCompletedMeetings_shouldPublishDeletedEvents() {
+        meetingArchiver.archiveCompletedMeetings();
+
+        List<MeetingChangedEvent> events = applicationEvents.stream(MeetingChangedEvent.class).toList();
+        assertEquals(1, events.size());
+        MeetingChangedEvent event = events.get(0);
+        assertEquals(MeetingChangedEvent.ChangeType.DELETED, event.getChangeType());
+        assertEquals(oldMeeting.getId(), event.getMeetingId());
+        assertEquals("Berlin", event.getPrevious().getLocation());
+        assertEquals(List.of("Sport"), event.getPrevious().getMeetingTypeNames());
+    }
+
+    @Test
+    @DisplayName("Participated meetings should be read from the live and the archive tables")
+    void findParticipatedMeetingsIncludingArchive_shouldReadBothTables() {
+        meetingArchiver.archiveCompletedMeetings();
+        entityManager.clear();
+
+        Page<UserProfileMeetingDto> firstPage = meetingRepository
+                .findParticipatedMeetingsIncludingArchive(participant.getId(), PageRequest.of(0, 2));
+        Page<UserProfileMeetingDto> secondPage = meetingRepository
+                .findParticipatedMeetingsIncludingArchive(participant.getId(), PageRequest.of(1, 2));
+
+        assertEquals(3, firstPage.getTotalElements());
+        assertEquals(List.of(oldMeeting.getId(), recentMeeting.getId()),
+                firstPage.getContent().stream().map(UserProfileMeetingDto::getId).toList());
+        assertEquals(List.of(upcomingMeeting.getId()),
+                secondPage.getContent().stream().map(UserProfileMeetingDto::getId).toList());
+
+        UserProfileMeetingDto archived = firstPage.getContent().get(0);
+        assertEquals("Altes Treffen", archived.getTitle());
+        assertEquals(MeetingFormat.OFFLINE, archived.getFormat());
+        assertEquals(List.of("Sport"), archived.getMeetingTypeNames());
+    }
+
+    @Test
+    @DisplayName("Past meetings should be paged newest first across the live and the archive tables")
+    void findPastParticipatedMeetingsIncludingArchive_shouldSeekThroughBothTables() {
+        meetingArchiver.archiveCompletedMeetings();
+        entityManager.clear();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<UserProfileMeetingDto> firstPage = meetingRepository
+                .findPastParticipatedMeetingsIncludingArchive(participant.getId(), now, null, null, 1);
+        UserProfileMeetingDto last = firstPage.get(0);
+        List<UserProfileMeetingDto> secondPage = meetingRepository.findPastParticipatedMeetingsIncludingArchive(
+                participant.getId(), now, last.getDateTime(), last.getId(), 1);
+        UserProfileMeetingDto archived = secondPage.get(0);
+        List<UserProfileMeetingDto> thirdPage = meetingRepository.findPastParticipatedMeetingsIncludingArchive(
+                participant.getId(), now, archived.getDateTime(), archived.getId(), 1);
+
+        assertEquals(recentMeeting.getId(), last.getId());
+        assertEquals(oldMeeting.getId(), archived.getId());
+        assertEquals("COMPLETED", archived.getStatus());
+        assertTrue(thirdPage.isEmpty());
+    }
+
+    private void moveTo(Meeting meeting, LocalDateTime dateTime) {
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE meetings SET date_time = :dateTime WHERE id = :id")
+                .setParameter("dateTime", dateTime)
+                .setParameter("id", meeting.getId())
+                .executeUpdate();
+        meetingParticipationRepository.updateMeetingDateTime(meeting.getId(), dateTime);
+    }
+}
@@ -0,0 +1,105 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.fixture.UserFixture;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.model.ParticipationStatus;
+import com.groupmeet.application.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaTestConfiguration.class)
+@DisplayName("Meeting Bulk Participants Tests")
+class MeetingBulkParticipantsTest {
+
+    private static final int MAX_PARTICIPANTS = 30;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingParticipationRepository meetingParticipationRepository;
+
+    private Meeting meeting;
+    private User creator;
+    private List<Long> colleagueIds;
+
+    @BeforeEach
+    void setUp() {
+        creator = entityManager.persist(UserFixture.createTestMaleUser("creator"));
+        meeting = new Meeting();
+        meeting.setTitle("Firmenlauf");
+        meeting.setFormat(MeetingFormat.ONLINE);
+        meeting.setDateTime(LocalDateTime.now().plusDays(1));
+        meeting.setCreator(creator);
+        meeting.setMaxParticipants(MAX_PARTICIPANTS);
+        meeting.addParticipant(creator);
+        meeting.setParticipantCount(1);
+        meeting = entityManager.persist(meeting);
+
+        colleagueIds = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            colleagueIds.add(entityManager.persist(UserFixture.createTestFemaleUser("colleague" + i)).getId());
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should insert all accepted users in one batch and read their statuses back as a set")
+    void insertParticipants_shouldAddActiveMemberships() {
+        assertEquals(1, meetingRepository.reserveSeats(meeting.getId(), colleagueIds.size()));
+        meetingParticipationRepository.insertParticipants(meeting.getId(), colleagueIds);
+        entityManager.clear();
+
+        Map<Long, ParticipationStatus> statuses = meetingParticipationRepository
+                .findStatuses(meeting.getId(), colleagueIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (ParticipationStatus) row[1]));
+
+        assertEquals(colleagueIds.size(), statuses.size());
+        assertTrue(statuses.values().stream().allMatch(status -> status == ParticipationStatus.ACTIVE));
+        assertEquals(colleagueIds.size() + 1,
+                meetingRepository.findById(meeting.getId()).orElseThrow().getParticipantCount());
+        assertTrue(meetingRepository.findParticipantCountDrift().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not reserve more seats than the meeting has left")
+    void reserveSeats_beyondCapacity_shouldReserveNothing() {
+        assertEquals(0, meetingRepository.reserveSeats(meeting.getId(), MAX_PARTICIPANTS));
+        assertEquals(1, meetingRepository.reserveSeats(meeting.getId(), MAX_PARTICIPANTS - 1));
+        entityManager.clear();
+
+        assertEquals(MAX_PARTICIPANTS, meetingRepository.findById(meeting.getId()).orElseThrow().getParticipantCount());
+    }
+
+    @Test
+    @DisplayName("Should count active meetings for a set of users in one query")
+    void countActiveMeetingsByParticipants_shouldGroupByUser() {
+        meetingParticipationRepository.insertParticipants(meeting.getId(), colleagueIds.subList(0, 2));
+
+        Map<Long, Long> counts = meetingRepository
+                .countActiveMeetingsByParticipants(colleagueIds.subList(0, 3), LocalDateTime.now()).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).longValue()));
+
+        assertEquals(Map.of(colleagueIds.get(0), 1L, colleagueIds.get(1), 1L), counts);
+    }
+}
@@ -0,0 +1,93 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.dto.MeetingDto;
+import com.groupmeet.application.dto.MeetingSearchCriteriaDto;
+import com.groupmeet.application.dto.MeetingSearchCursor;
+import com.groupmeet.application.fixture.MeetingFixture;
+import com.groupmeet.application.fixture.UserFixture;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaTestConfiguration.class)
+@DisplayName("Meeting Cursor Paging Tests")
+class MeetingCursorPagingTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    private List<Long> expectedIds;
+
+    @BeforeEach
+    void setUp() {
+        User creator = entityManager.persist(UserFixture.createTestMaleUser("creator"));
+        LocalDateTime tomorrow = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+
+        // Five meetings share one start time, so pages split inside a run of equal dates
+        List<Meeting> meetings = new ArrayList<>();
+        meetings.add(entityManager.persist(
+                MeetingFixture.createMeeting("Lauftreff", MeetingFormat.ONLINE, tomorrow.plusHours(2), creator)));
+        for (int i = 0; i < 5; i++) {
+            meetings.add(entityManager.persist(
+                    MeetingFixture.createMeeting("Lauftreff", MeetingFormat.ONLINE, tomorrow, creator)));
+        }
+        meetings.add(entityManager.persist(
+                MeetingFixture.createMeeting("Lauftreff", MeetingFormat.ONLINE, tomorrow.minusHours(1), creator)));
+        entityManager.flush();
+        entityManager.clear();
+
+        expectedIds = new ArrayList<>();
+        expectedIds.add(meetings.get(6).getId());
+        meetings.subList(1, 6).stream().map(Meeting::getId).sorted().forEach(expectedIds::add);
+        expectedIds.add(meetings.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Paging through encoded cursors should return every meeting once, ordered by date and id")
+    void findMeetingSummariesAfterCursor_shouldNotSkipOrRepeatAcrossEqualDates() {
+        Specification<Meeting> spec = MeetingSpecifications.matchingCriteria(new MeetingSearchCriteriaDto(),
+                LocalDateTime.now());
+
+        List<Long> seenIds = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MeetingSearchCursor after = cursor != null ? MeetingSearchCursor.decode(cursor) : null;
+            List<MeetingDto> page = meetingRepository.findMeetingSummariesAfterCursor(spec,
+                    after != null ? after.getDateTime() : null, after != null ? after.getId() : null, PAGE_SIZE);
+            assertTrue(page.size() <= PAGE_SIZE);
+            page.forEach(meeting -> seenIds.add(meeting.getId()));
+
+            MeetingDto last = page.isEmpty() ? null : page.get(page.size() - 1);
+            cursor = page.size() == PAGE_SIZE ? new MeetingSearchCursor(last.getDateTime(), last.getId()).encode()
+                    : null;
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        assertEquals(expectedIds, seenIds);
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.fixture.MeetingFixture;
+import com.groupmeet.application.fixture.UserFixture;
+import com.groupmeet.application.model.Interest;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.model.MeetingWaitlistEntry;
+import com.groupmeet.application.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaTestConfiguration.class)
+@DisplayName("Meeting Deletion Tests")
+class MeetingDeletionTest {
+
+    private static final int PARTICIPANTS = 2000;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingParticipationRepository meetingParticipationRepository;
+
+    @Autowired
+    private MeetingWaitlistRepository meetingWaitlistRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Meeting large;
+    private Meeting kept;
+
+    @BeforeEach
+    void setUp() {
+        Interest sport = entityManager.persist(new Interest("Sport"));
+        User creator = entityManager.persist(UserFixture.createTestMaleUser("creator"));
+        User blocked = entityManager.persist(UserFixture.createTestFemaleUser("blocked"));
+        User waiting = entityManager.persist(UserFixture.createTestFemaleUser("waiting"));
+
+        large = entityManager.persist(MeetingFixture.createMeeting("Großes Konzert", MeetingFormat.ONLINE,
+                LocalDateTime.now().plusDays(3), sport, creator));
+        kept = entityManager.persist(MeetingFixture.createMeeting("Lauftreff", MeetingFormat.ONLINE,
+                LocalDateTime.now().plusDays(3), sport, creator));
+        entityManager.persist(new MeetingWaitlistEntry(large, waiting));
+        entityManager.flush();
+
+        List<Long> participantIds = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            participantIds.add(entityManager.persist(UserFixture.createTestFemaleUser("participant" + i)).getId());
+        }
+        entityManager.flush();
+        meetingParticipationRepository.insertParticipants(large.getId(), participantIds);
+        meetingParticipationRepository.insertBlocked(large.getId(), blocked.getId(), creator.getId());
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should delete a large meeting with set-based statements without loading any entity")
+    void deleteStatements_shouldRemoveMeetingWithoutHydration() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<Long> meetingIds = List.of(large.getId());
+
+        List<Object[]> state = meetingRepository.findDeletionState(meetingIds);
+        assertEquals(1, state.size());
+        assertEquals("Großes Konzert", state.get(0)[1]);
+        assertEquals(List.of("Sport"), meetingRepository.findTypeNames(meetingIds).stream()
+                .map(row -> (String) row[1]).toList());
+        assertEquals(PARTICIPANTS + 1,
+                meetingParticipationRepository.findActiveUserIdsByMeetingIds(meetingIds).size());
+
+        assertEquals(1, meetingWaitlistRepository.deleteByMeetingIds(meetingIds));
+        assertEquals(PARTICIPANTS + 2, meetingParticipationRepository.deleteByMeetingIds(meetingIds));
+        assertEquals(1, meetingRepository.deleteMeetingTypes(meetingIds));
+        assertEquals(1, meetingRepository.deleteByIds(meetingIds));
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, count("meeting_participations", large.getId()));
+        assertEquals(0, count("meeting_meeting_types", large.getId()));
+        assertEquals(1, count("meeting_participations", kept.getId()));
+        assertEquals(1, count("meeting_meeting_types", kept.getId()));
+        assertEquals(List.of(kept.getId()), meetingRepository.findAll().stream().map(Meeting::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Unknown ids should be ignored")
+    void findDeletionState_withUnknownIds_shouldReturnExistingOnly() {
+        assertEquals(1, meetingRepository.findDeletionState(List.of(kept.getId(), -1L)).size());
+        assertEquals(0, meetingRepository.deleteByIds(List.of(-1L)));
+    }
+
+    private long count(String table, Long meetingId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE meeting_id = ?", Long.class,
+                meetingId);
+    }
+}
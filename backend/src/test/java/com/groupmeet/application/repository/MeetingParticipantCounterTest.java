@@ -0,0 +1,102 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.fixture.UserFixture;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaTestConfiguration.class)
+@DisplayName("Meeting Participant Counter Tests")
+class MeetingParticipantCounterTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    private Meeting meeting;
+    private User creator;
+    private User participant;
+
+    @BeforeEach
+    void setUp() {
+        creator = entityManager.persist(UserFixture.createTestMaleUser("creator"));
+        participant = entityManager.persist(UserFixture.createTestFemaleUser("participant"));
+
+        meeting = new Meeting();
+        meeting.setTitle("Lauftreff");
+        meeting.setFormat(MeetingFormat.ONLINE);
+        meeting.setDateTime(LocalDateTime.now().plusDays(1));
+        meeting.setCreator(creator);
+        meeting.addParticipant(creator);
+        meeting.setParticipantCount(1);
+        meeting = entityManager.persistAndFlush(meeting);
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Joining and leaving should keep the counter in line with the participants")
+    void insertAndDeleteParticipant_shouldMaintainCounter() {
+        meetingRepository.insertParticipant(meeting.getId(), participant.getId());
+        meetingRepository.adjustParticipantCount(meeting.getId(), 1);
+        entityManager.clear();
+
+        assertTrue(meetingRepository.isParticipant(meeting.getId(), participant.getId()));
+        assertEquals(2, meetingRepository.findById(meeting.getId()).orElseThrow().getParticipantCount());
+
+        assertEquals(1, meetingRepository.deleteParticipant(meeting.getId(), participant.getId()));
+        meetingRepository.adjustParticipantCount(meeting.getId(), -1);
+        entityManager.clear();
+
+        assertFalse(meetingRepository.isParticipant(meeting.getId(), participant.getId()));
+        assertEquals(1, meetingRepository.findById(meeting.getId()).orElseThrow().getParticipantCount());
+        assertEquals(0, meetingRepository.deleteParticipant(meeting.getId(), participant.getId()));
+    }
+
+    @Test
+    @DisplayName("Saving a loaded meeting should not overwrite a concurrently adjusted counter")
+    void saveMeeting_shouldNotOverwriteCounter() {
+        Meeting loaded = meetingRepository.findById(meeting.getId()).orElseThrow();
+        meetingRepository.adjustParticipantCount(meeting.getId(), 1);
+
+        loaded.setTitle("Lauftreff am Abend");
+        meetingRepository.saveAndFlush(loaded);
+        entityManager.clear();
+
+        assertEquals(2, meetingRepository.findById(meeting.getId()).orElseThrow().getParticipantCount());
+    }
+
+    @Test
+    @DisplayName("Drift detection should report and repair counters that disagree with the participants")
+    void findParticipantCountDrift_shouldDetectAndRepairDrift() {
+        meetingRepository.insertParticipant(meeting.getId(), participant.getId());
+        entityManager.clear();
+
+        List<Object[]> drifted = meetingRepository.findParticipantCountDrift();
+        assertEquals(1, drifted.size());
+        assertEquals(meeting.getId().longValue(), ((Number) drifted.get(0)[0]).longValue());
+        assertEquals(2L, ((Number) drifted.get(0)[2]).longValue());
+
+        assertEquals(1, meetingRepository.recalculateParticipantCounts(List.of(meeting.getId())));
+        entityManager.clear();
+
+        assertEquals(2, meetingRepository.findById(meeting.getId()).orElseThrow().getParticipantCount());
+        assertTrue(meetingRepository.findParticipantCountDrift().isEmpty());
+    }
+}
@@ -0,0 +1,113 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.dto.MeetingParticipantDetailsDto;
+import com.groupmeet.application.fixture.UserFixture;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.model.ParticipationStatus;
+import com.groupmeet.application.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures the participant details page of a meeting with 10k participants.
+ * Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaTestConfiguration.class)
+@DisplayName("Meeting Participants Benchmark")
+class MeetingParticipantsBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeetingParticipantsBenchmarkTest.class);
+
+    private static final int PARTICIPANTS = 10_000;
+    private static final int BLOCKED = 500;
+    private static final int PAGE_SIZE = 20;
+    private static final int ROUNDS = 200;
+
+    private static final List<ParticipationStatus> ALL_STATUSES =
+            List.of(ParticipationStatus.ACTIVE, ParticipationStatus.BLOCKED);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MeetingParticipationRepository meetingParticipationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long meetingId;
+
+    @BeforeEach
+    void setUp() {
+        User creator = entityManager.persist(UserFixture.createTestMaleUser("creator"));
+        Meeting meeting = new Meeting();
+        meeting.setTitle("Stadionkonzert");
+        meeting.setFormat(MeetingFormat.ONLINE);
+        meeting.setDateTime(LocalDateTime.now().plusDays(1));
+        meeting.setCreator(creator);
+        meeting.addParticipant(creator);
+        meeting.setParticipantCount(PARTICIPANTS + 1);
+        meetingId = entityManager.persist(meeting).getId();
+        entityManager.flush();
+
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS + BLOCKED; i++) {
+            users.add(new Object[] { "FEMALE", "Vorname" + i, "Nachname" + i, "teilnehmer" + i,
+                    "teilnehmer" + i + "@example.com", "x", LocalDateTime.now() });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (gender, first_name, last_name, username, email, password, "
+                + "created_at, is_pro) VALUES (?, ?, ?, ?, ?, ?, ?, false)", users);
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE username LIKE 'teilnehmer%' ORDER BY id", Long.class);
+        meetingParticipationRepository.insertParticipants(meetingId, userIds.subList(0, PARTICIPANTS));
+        for (Long blockedId : userIds.subList(PARTICIPANTS, userIds.size())) {
+            meetingParticipationRepository.insertBlocked(meetingId, blockedId, creator.getId());
+        }
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Participant pages of a 10k meeting")
+    void participantPages() {
+        measure("first page", "%", 0);
+        measure("last page", "%", (PARTICIPANTS + BLOCKED) / PAGE_SIZE);
+        measure("search", "%nachname99%", 0);
+    }
+
+    private void measure(String name, String pattern, int pageNumber) {
+        Page<MeetingParticipantDetailsDto> page = null;
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            page = meetingParticipationRepository.findParticipants(meetingId, ALL_STATUSES, pattern,
+                    PageRequest.of(pageNumber, PAGE_SIZE));
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        logger.info("{}: {} of {} participants, {} µs per page.", name, page.getNumberOfElements(),
+                page.getTotalElements(), TimeUnit.NANOSECONDS.toMicros(elapsedNanos / ROUNDS));
+        assertTrue(page.getNumberOfElements() <= PAGE_SIZE);
+    }
+}
@@ -0,0 +1,206 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.config.MeetingParticipationMigration;
+import com.groupmeet.application.dto.MeetingParticipantDetailsDto;
+import com.groupmeet.application.fixture.UserFixture;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.model.ParticipationStatus;
+import com.groupmeet.application.model.User;
+import com.groupmeet.application.service.MeetingArchiver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaTestConfiguration.class)
+@Import({ MeetingParticipationMigration.class, MeetingArchiver.class })
+@DisplayName("Meeting Participation Tests")
+class MeetingParticipationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MeetingParticipationRepository meetingParticipationRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingParticipationMigration migration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeetingArchiver meetingArchiver;
+
+    @Autowired
+    private ArchivedMeetingRepository archivedMeetingRepository;
+
+    private Meeting meeting;
+    private User creator;
+    private User anna;
+    private User bernd;
+    private User carla;
+
+    @BeforeEach
+    void setUp() {
+        creator = entityManager.persist(UserFixture.createTestMaleUser("creator"));
+        anna = entityManager.persist(UserFixture.createTestFemaleUser("anna"));
+        bernd = entityManager.persist(UserFixture.createTestMaleUser("bernd"));
+        carla = entityManager.persist(UserFixture.createTestFemaleUser("carla"));
+        anna.setFirstName("Anna");
+        bernd.setFirstName("Bernd");
+        carla.setFirstName("Carla");
+
+        meeting = new Meeting();
+        meeting.setTitle("Lauftreff");
+        meeting.setFormat(MeetingFormat.ONLINE);
+        meeting.setDateTime(LocalDateTime.now().plusDays(1));
+        meeting.setCreator(creator);
+        meeting.addParticipant(creator);
+        meeting.addParticipant(carla);
+        meeting.addParticipant(anna);
+        meeting.setParticipantCount(3);
+        meeting = entityManager.persist(meeting);
+        entityManager.flush();
+
+        meetingParticipationRepository.insertBlocked(meeting.getId(), bernd.getId(), creator.getId());
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should list the organizer first and blocked users last")
+    void findParticipants_shouldOrderByRoleStatusAndName() {
+        Page<MeetingParticipantDetailsDto> all = meetingParticipationRepository.findParticipants(meeting.getId(),
+                List.of(ParticipationStatus.ACTIVE, ParticipationStatus.BLOCKED), "%", PageRequest.of(0, 10));
+        Page<MeetingParticipantDetailsDto> active = meetingParticipationRepository.findParticipants(meeting.getId(),
+                List.of(ParticipationStatus.ACTIVE), "%", PageRequest.of(0, 10));
+
+        assertEquals(List.of(creator.getId(), anna.getId(), carla.getId(), bernd.getId()),
+                all.getContent().stream().map(MeetingParticipantDetailsDto::getId).toList());
+        assertTrue(all.getContent().get(0).isOrganizer());
+        assertFalse(all.getContent().get(1).isOrganizer());
+        assertEquals("ACTIVE", all.getContent().get(2).getParticipationStatus());
+        assertEquals("BLOCKED", all.getContent().get(3).getParticipationStatus());
+        assertEquals(3, active.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Should filter participants by name in the database")
+    void findParticipants_withSearchTerm_shouldFilter() {
+        Page<MeetingParticipantDetailsDto> page = meetingParticipationRepository.findParticipants(meeting.getId(),
+                List.of(ParticipationStatus.ACTIVE, ParticipationStatus.BLOCKED), "%carl%", PageRequest.of(0, 10));
+
+        assertEquals(1, page.getTotalElements());
+        assertEquals(carla.getId(), page.getContent().get(0).getId());
+        assertEquals("Carla", page.getContent().get(0).getFirstName());
+    }
+
+    @Test
+    @DisplayName("Escaped wildcards in the search term should match literally")
+    void findParticipants_withEscapedWildcard_shouldMatchLiterally() {
+        entityManager.find(User.class, carla.getId()).setLastName("von_Carla");
+        entityManager.flush();
+
+        Page<MeetingParticipantDetailsDto> page = meetingParticipationRepository.findParticipants(meeting.getId(),
+                List.of(ParticipationStatus.ACTIVE, ParticipationStatus.BLOCKED), "%\\_%", PageRequest.of(0, 10));
+
+        assertEquals(1, page.getTotalElements());
+        assertEquals(carla.getId(), page.getContent().get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Blocking should replace the membership and keep the preview to active participants")
+    void blockActiveParticipant_shouldChangeStatus() {
+        assertEquals(1, meetingParticipationRepository.blockActiveParticipant(meeting.getId(), anna.getId(),
+                creator.getId()));
+
+        assertEquals(Optional.of(ParticipationStatus.BLOCKED),
+                meetingParticipationRepository.findStatus(meeting.getId(), anna.getId()));
+        assertFalse(meetingRepository.isParticipant(meeting.getId(), anna.getId()));
+        assertEquals(List.of(carla.getId()), meetingParticipationRepository
+                .findParticipantPreview(meeting.getId(), PageRequest.of(0, 4)).stream().map(User::getId).toList());
+        assertEquals(1, meetingParticipationRepository.deleteBlocked(meeting.getId(), anna.getId()));
+        assertEquals(Optional.empty(), meetingParticipationRepository.findStatus(meeting.getId(), anna.getId()));
+    }
+
+    @Test
+    @DisplayName("Should migrate rows of the former join tables once")
+    void migration_shouldCopyLegacyTables() {
+        Meeting other = persistLegacyMeeting("Chor");
+
+        migration.run();
+        migration.run();
+
+        assertEquals(Optional.of(ParticipationStatus.ACTIVE),
+                meetingParticipationRepository.findStatus(other.getId(), anna.getId()));
+        assertEquals(Optional.of(ParticipationStatus.BLOCKED),
+                meetingParticipationRepository.findStatus(other.getId(), bernd.getId()));
+        assertEquals(List.of(creator.getId(), anna.getId(), bernd.getId()),
+                meetingParticipationRepository.findParticipants(other.getId(),
+                        List.of(ParticipationStatus.ACTIVE, ParticipationStatus.BLOCKED), "%", PageRequest.of(0, 10))
+                        .getContent().stream().map(MeetingParticipantDetailsDto::getId).toList());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.tables "
+                + "WHERE LOWER(table_name) LIKE 'meeting_%participants%'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Migrated meetings should be deletable and archivable with the set-based deletes")
+    void migration_shouldNotLeaveForeignKeysBehind() {
+        Meeting deleted = persistLegacyMeeting("Chor");
+        Meeting archived = persistLegacyMeeting("Lesekreis");
+
+        migration.run();
+
+        List<Long> deletedIds = List.of(deleted.getId());
+        meetingParticipationRepository.deleteByMeetingIds(deletedIds);
+        meetingRepository.deleteMeetingTypes(deletedIds);
+        assertEquals(1, meetingRepository.deleteByIds(deletedIds));
+
+        jdbcTemplate.update("UPDATE meetings SET date_time = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(30), archived.getId());
+        assertEquals(1, meetingArchiver.archiveCompletedMeetings());
+        assertTrue(archivedMeetingRepository.existsById(archived.getId()));
+        assertFalse(meetingRepository.existsById(archived.getId()));
+    }
+
+    // Seeds the former join tables, with their foreign keys, for a new meeting
+    private Meeting persistLegacyMeeting(String title) {
+        Meeting legacy = new Meeting();
+        legacy.setTitle(title);
+        legacy.setFormat(MeetingFormat.ONLINE);
+        legacy.setDateTime(LocalDateTime.now().plusDays(2));
+        legacy.setCreator(creator);
+        legacy = entityManager.persistAndFlush(legacy);
+
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS meeting_participants ("
+                + "meeting_id BIGINT REFERENCES meetings(id), user_id BIGINT REFERENCES users(id))");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS meeting_blocked_participants (id BIGINT, "
+                + "meeting_id BIGINT REFERENCES meetings(id), user_id BIGINT REFERENCES users(id), "
+                + "blocker_id BIGINT REFERENCES users(id), blocked_at TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO meeting_participants VALUES (?, ?), (?, ?), (?, ?)",
+                legacy.getId(), creator.getId(), legacy.getId(), anna.getId(), legacy.getId(), bernd.getId());
+        jdbcTemplate.update("INSERT INTO meeting_blocked_participants VALUES (1, ?, ?, ?, CURRENT_TIMESTAMP)",
+                legacy.getId(), bernd.getId(), creator.getId());
+        return legacy;
+    }
+}
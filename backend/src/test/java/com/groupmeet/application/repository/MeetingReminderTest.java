@@ -0,0 +1,92 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.fixture.MeetingFixture;
+import com.groupmeet.application.fixture.UserFixture;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.model.MeetingReminder;
+import com.groupmeet.application.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaTestConfiguration.class)
+@DisplayName("Meeting Reminder Tests")
+class MeetingReminderTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingParticipationRepository meetingParticipationRepository;
+
+    private LocalDateTime now;
+    private Meeting soon;
+    private Meeting tomorrow;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        User creator = entityManager.persist(UserFixture.createTestMaleUser("creator"));
+        User anna = entityManager.persist(UserFixture.createTestFemaleUser("anna"));
+
+        soon = entityManager.persist(MeetingFixture.createMeeting("Kaffee", MeetingFormat.ONLINE, now.plusMinutes(30),
+                creator, anna));
+        tomorrow = entityManager.persist(MeetingFixture.createMeeting("Wanderung", MeetingFormat.ONLINE,
+                now.plusHours(20), creator));
+        entityManager.persist(MeetingFixture.createMeeting("Nächste Woche", MeetingFormat.ONLINE, now.plusDays(7),
+                creator));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should find meetings in the reminder window that were not reminded yet")
+    void findIdsDueForReminder_shouldReturnMeetingsInWindow() {
+        assertEquals(List.of(soon.getId()),
+                meetingRepository.findIdsDueForReminder(now, now.plusHours(1), MeetingReminder.HOUR_BEFORE));
+        assertEquals(List.of(tomorrow.getId()),
+                meetingRepository.findIdsDueForReminder(now.plusHours(1), now.plusHours(24),
+                        MeetingReminder.DAY_BEFORE));
+    }
+
+    @Test
+    @DisplayName("A reminder should only be claimed once, and moving the meeting should clear it")
+    void claimReminder_shouldSucceedOnlyOnce() {
+        assertEquals(1, meetingRepository.claimReminder(tomorrow.getId(), MeetingReminder.DAY_BEFORE));
+        assertEquals(0, meetingRepository.claimReminder(tomorrow.getId(), MeetingReminder.DAY_BEFORE));
+        assertTrue(meetingRepository.findIdsDueForReminder(now.plusHours(1), now.plusHours(24),
+                MeetingReminder.DAY_BEFORE).isEmpty());
+
+        // The hour reminder still follows the day reminder
+        assertEquals(1, meetingRepository.claimReminder(tomorrow.getId(), MeetingReminder.HOUR_BEFORE));
+
+        meetingRepository.resetReminder(tomorrow.getId());
+        assertEquals(List.of(tomorrow.getId()),
+                meetingRepository.findIdsDueForReminder(now.plusHours(1), now.plusHours(24),
+                        MeetingReminder.DAY_BEFORE));
+    }
+
+    @Test
+    @DisplayName("Reminders should go to all active participants")
+    void findActiveUserEmails_shouldReturnActiveParticipants() {
+        List<String> emails = meetingParticipationRepository.findActiveUserEmails(soon.getId());
+
+        assertEquals(2, emails.size());
+        assertTrue(emails.containsAll(List.of("testcreator@example.com", "testanna@example.com")));
+    }
+}
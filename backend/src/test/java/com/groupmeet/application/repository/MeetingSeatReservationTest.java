@@ -0,0 +1,150 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.fixture.UserFixture;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Joins run in their own committed transactions here, so the test manages its data itself
+ * instead of relying on the rollback of the test transaction.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaTestConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Meeting Seat Reservation Tests")
+class MeetingSeatReservationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeetingSeatReservationTest.class);
+
+    private static final int MAX_PARTICIPANTS = 50;
+    private static final int JOIN_ATTEMPTS = 400;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long meetingId;
+    private List<Long> joinerIds;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User creator = userRepository.save(UserFixture.createTestMaleUser("creator"));
+            Meeting meeting = new Meeting();
+            meeting.setTitle("Konzert");
+            meeting.setFormat(MeetingFormat.ONLINE);
+            meeting.setDateTime(LocalDateTime.now().plusDays(1));
+            meeting.setCreator(creator);
+            meeting.setMaxParticipants(MAX_PARTICIPANTS);
+            meeting.addParticipant(creator);
+            meeting.setParticipantCount(1);
+            meetingId = meetingRepository.save(meeting).getId();
+
+            joinerIds = new ArrayList<>();
+            for (int i = 0; i < JOIN_ATTEMPTS; i++) {
+                joinerIds.add(userRepository.save(UserFixture.createTestFemaleUser("joiner" + i)).getId());
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            meetingRepository.deleteAll();
+            userRepository.deleteAll();
+        });
+    }
+
+    @Test
+    @DisplayName("Concurrent joins should never take more seats than the meeting has")
+    void reserveSeat_underConcurrentJoins_shouldNotOversubscribe() throws Exception {
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        List<Future<?>> joins = new ArrayList<>();
+        for (Long joinerId : joinerIds) {
+            joins.add(executor.submit(() -> {
+                start.await();
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (meetingRepository.reserveSeat(meetingId) == 0) {
+                        rejected.incrementAndGet();
+                        return;
+                    }
+                    meetingRepository.insertParticipant(meetingId, joinerId);
+                    joined.incrementAndGet();
+                });
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> join : joins) {
+            join.get(30, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        logger.info("{} join attempts on {} threads took {} ms ({} joins/s).", JOIN_ATTEMPTS, THREADS,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                Math.round(JOIN_ATTEMPTS / (elapsedNanos / 1_000_000_000.0)));
+
+        assertEquals(MAX_PARTICIPANTS - 1, joined.get());
+        assertEquals(JOIN_ATTEMPTS - MAX_PARTICIPANTS + 1, rejected.get());
+        assertEquals(MAX_PARTICIPANTS, meetingRepository.findById(meetingId).orElseThrow().getParticipantCount());
+        assertTrue(meetingRepository.findParticipantCountDrift().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Lowering the capacity below the taken seats should be refused")
+    void updateMaxParticipantsIfFits_belowTakenSeats_shouldNotUpdate() {
+        transactionTemplate.executeWithoutResult(status -> {
+            meetingRepository.reserveSeat(meetingId);
+            meetingRepository.insertParticipant(meetingId, joinerIds.get(0));
+        });
+
+        Integer refused = transactionTemplate.execute(status ->
+                meetingRepository.updateMaxParticipantsIfFits(meetingId, 1));
+        Integer accepted = transactionTemplate.execute(status ->
+                meetingRepository.updateMaxParticipantsIfFits(meetingId, 2));
+
+        assertEquals(0, refused);
+        assertEquals(1, accepted);
+        assertEquals(0, transactionTemplate.execute(status -> meetingRepository.reserveSeat(meetingId)));
+    }
+}
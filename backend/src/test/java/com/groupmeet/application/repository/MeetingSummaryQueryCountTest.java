@@ -0,0 +1,157 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.dto.MeetingDto;
+import com.groupmeet.application.dto.MeetingSearchCriteriaDto;
+import com.groupmeet.application.fixture.UserFixture;
+import com.groupmeet.application.model.Interest;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaTestConfiguration.class)
+@DisplayName("Meeting Summary Query Count Tests")
+class MeetingSummaryQueryCountTest {
+
+    private static final int MEETING_COUNT = 25;
+    private static final int PARTICIPANTS_PER_MEETING = 4;
+
+    // Rows, count and type names
+    private static final long MAX_STATEMENTS_PER_PAGE = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Interest sport = entityManager.persist(new Interest("Sport"));
+        Interest music = entityManager.persist(new Interest("Musik"));
+
+        User creator = entityManager.persist(UserFixture.createTestMaleUser("creator"));
+        List<User> participants = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS_PER_MEETING; i++) {
+            participants.add(entityManager.persist(UserFixture.createTestFemaleUser("participant" + i)));
+        }
+
+        for (int i = 0; i < MEETING_COUNT; i++) {
+            Meeting meeting = new Meeting();
+            meeting.setTitle("Meeting " + i);
+            meeting.setDescription("Beschreibung " + i);
+            meeting.setFormat(MeetingFormat.OFFLINE);
+            meeting.setLocation("Berlin");
+            meeting.setDateTime(LocalDateTime.now().plusDays(i + 1));
+            meeting.setCreator(creator);
+            meeting.setMeetingTypes(new HashSet<>(Set.of(sport, music)));
+            meeting.addParticipant(creator);
+            participants.forEach(meeting::addParticipant);
+            meeting.setParticipantCount(PARTICIPANTS_PER_MEETING + 1);
+            entityManager.persist(meeting);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Loading a search page should run a constant number of statements")
+    void findMeetingSummaries_shouldNotIssueQueriesPerRow() {
+        Page<MeetingDto> smallPage = searchPage(5);
+        long statementsForSmallPage = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        Page<MeetingDto> largePage = searchPage(20);
+        long statementsForLargePage = statistics.getPrepareStatementCount();
+
+        assertEquals(5, smallPage.getContent().size());
+        assertEquals(20, largePage.getContent().size());
+        assertEquals(MEETING_COUNT, largePage.getTotalElements());
+        assertTrue(statementsForLargePage <= MAX_STATEMENTS_PER_PAGE,
+                "Expected at most " + MAX_STATEMENTS_PER_PAGE + " statements but got " + statementsForLargePage);
+        assertEquals(statementsForSmallPage, statementsForLargePage);
+
+        MeetingDto first = largePage.getContent().get(0);
+        assertEquals("Meeting 0", first.getTitle());
+        assertEquals(PARTICIPANTS_PER_MEETING + 1, first.getParticipantCount());
+        assertEquals(List.of("Musik", "Sport"), first.getMeetingTypeNames());
+        assertEquals("testusercreator", first.getCreatorUsername());
+    }
+
+    @Test
+    @DisplayName("Filtering by type should neither duplicate rows nor add statements")
+    void findMeetingSummaries_withTypeFilter_shouldReturnDistinctRows() {
+        MeetingSearchCriteriaDto criteria = new MeetingSearchCriteriaDto();
+        criteria.setTypes(List.of("Sport", "Musik"));
+
+        Page<MeetingDto> page = meetingRepository.findMeetingSummaries(
+                MeetingSpecifications.matchingCriteria(criteria, LocalDateTime.now().minusHours(2)),
+                PageRequest.of(0, 10, Sort.by("dateTime")));
+
+        assertEquals(10, page.getContent().size());
+        assertEquals(MEETING_COUNT, page.getTotalElements());
+        assertEquals(10, page.getContent().stream().map(MeetingDto::getId).distinct().count());
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    @DisplayName("Streaming summaries should deliver bounded batches in date order")
+    void forEachMeetingSummaryBatch_shouldDeliverAllRowsInBatches() {
+        List<Integer> batchSizes = new ArrayList<>();
+        List<MeetingDto> exported = new ArrayList<>();
+
+        meetingRepository.forEachMeetingSummaryBatch(
+                MeetingSpecifications.matchingCriteria(new MeetingSearchCriteriaDto(),
+                        LocalDateTime.now().minusHours(2)),
+                10, batch -> {
+                    batchSizes.add(batch.size());
+                    exported.addAll(batch);
+                });
+
+        assertEquals(List.of(10, 10, 5), batchSizes);
+        assertEquals(MEETING_COUNT, exported.stream().map(MeetingDto::getId).distinct().count());
+        assertEquals("Meeting 0", exported.get(0).getTitle());
+        assertEquals("Meeting " + (MEETING_COUNT - 1), exported.get(MEETING_COUNT - 1).getTitle());
+        assertEquals(List.of("Musik", "Sport"), exported.get(MEETING_COUNT - 1).getMeetingTypeNames());
+        // One cursor plus one type name query per batch
+        assertEquals(1 + batchSizes.size(), statistics.getPrepareStatementCount());
+    }
+
+    private Page<MeetingDto> searchPage(int size) {
+        return meetingRepository.findMeetingSummaries(
+                MeetingSpecifications.matchingCriteria(new MeetingSearchCriteriaDto(),
+                        LocalDateTime.now().minusHours(2)),
+                PageRequest.of(0, size, Sort.by("dateTime")));
+    }
+}
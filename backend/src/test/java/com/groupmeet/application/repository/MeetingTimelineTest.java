@@ -0,0 +1,131 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.dto.UserProfileMeetingDto;
+import com.groupmeet.application.fixture.MeetingFixture;
+import com.groupmeet.application.fixture.UserFixture;
+import com.groupmeet.application.model.Interest;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.model.User;
+import com.groupmeet.application.service.MeetingArchiver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaTestConfiguration.class)
+@Import(MeetingArchiver.class)
+@DisplayName("Meeting Timeline Tests")
+class MeetingTimelineTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingParticipationRepository meetingParticipationRepository;
+
+    @Autowired
+    private MeetingArchiver meetingArchiver;
+
+    private User creator;
+    private User participant;
+    private Meeting archived;
+    private Meeting recent;
+    private Meeting inTwoDays;
+    private Meeting inFiveDays;
+    private Meeting inSevenDays;
+
+    @BeforeEach
+    void setUp() {
+        Interest sport = entityManager.persist(new Interest("Sport"));
+        creator = entityManager.persist(UserFixture.createTestMaleUser("creator"));
+        participant = entityManager.persist(UserFixture.createTestFemaleUser("participant"));
+        User blocked = entityManager.persist(UserFixture.createTestMaleUser("blocked"));
+
+        LocalDateTime tomorrow = LocalDateTime.now().plusDays(1);
+        archived = entityManager.persist(MeetingFixture.createMeeting("Altes Treffen", MeetingFormat.OFFLINE,
+                tomorrow, sport, creator, participant));
+        recent = entityManager.persist(MeetingFixture.createMeeting("Letzte Woche", MeetingFormat.OFFLINE,
+                tomorrow, sport, creator, participant));
+        inTwoDays = entityManager.persist(MeetingFixture.createMeeting("Übermorgen", MeetingFormat.OFFLINE,
+                tomorrow, sport, creator, participant));
+        inFiveDays = entityManager.persist(MeetingFixture.createMeeting("Freitag", MeetingFormat.OFFLINE,
+                tomorrow, sport, creator));
+        inSevenDays = entityManager.persist(MeetingFixture.createMeeting("Nächste Woche", MeetingFormat.OFFLINE,
+                tomorrow, sport, creator, participant));
+        entityManager.flush();
+
+        // Meetings cannot be persisted in the past, so they are moved there afterwards
+        moveTo(archived, LocalDateTime.now().minusDays(30));
+        moveTo(recent, LocalDateTime.now().minusDays(3));
+        moveTo(inTwoDays, LocalDateTime.now().plusDays(2));
+        moveTo(inFiveDays, LocalDateTime.now().plusDays(5));
+        moveTo(inSevenDays, LocalDateTime.now().plusDays(7));
+        // Joins through the native insert copy the current meeting date
+        meetingRepository.insertParticipant(inFiveDays.getId(), participant.getId());
+        meetingParticipationRepository.insertBlocked(inSevenDays.getId(), blocked.getId(), creator.getId());
+        meetingArchiver.archiveCompletedMeetings();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Upcoming meetings should be paged soonest first by cursor")
+    void findUpcomingParticipatedMeetings_shouldSeekAscending() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<UserProfileMeetingDto> firstPage = meetingRepository
+                .findUpcomingParticipatedMeetings(participant.getId(), now, null, null, 2);
+        assertEquals(List.of(inTwoDays.getId(), inFiveDays.getId()), ids(firstPage));
+        assertEquals(List.of("Sport"), firstPage.get(0).getMeetingTypeNames());
+
+        UserProfileMeetingDto last = firstPage.get(1);
+        assertEquals(List.of(inSevenDays.getId()), ids(meetingRepository
+                .findUpcomingParticipatedMeetings(participant.getId(), now, last.getDateTime(), last.getId(), 2)));
+    }
+
+    @Test
+    @DisplayName("Past meetings should be paged latest first across the live and the archive tables")
+    void findPastParticipatedMeetingsIncludingArchive_shouldSeekDescending() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<UserProfileMeetingDto> firstPage = meetingRepository
+                .findPastParticipatedMeetingsIncludingArchive(participant.getId(), now, null, null, 1);
+        assertEquals(List.of(recent.getId()), ids(firstPage));
+
+        UserProfileMeetingDto last = firstPage.get(0);
+        List<UserProfileMeetingDto> secondPage = meetingRepository.findPastParticipatedMeetingsIncludingArchive(
+                participant.getId(), now, last.getDateTime(), last.getId(), 1);
+        assertEquals(List.of(archived.getId()), ids(secondPage));
+        assertEquals("COMPLETED", secondPage.get(0).getStatus());
+        assertEquals(List.of("Sport"), secondPage.get(0).getMeetingTypeNames());
+    }
+
+    // Moves the meeting the way updateMeeting does, including the date copied to its participations
+    private void moveTo(Meeting meeting, LocalDateTime dateTime) {
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE meetings SET date_time = :dateTime WHERE id = :id")
+                .setParameter("dateTime", dateTime)
+                .setParameter("id", meeting.getId())
+                .executeUpdate();
+        meetingParticipationRepository.updateMeetingDateTime(meeting.getId(), dateTime);
+    }
+
+    private static List<Long> ids(List<UserProfileMeetingDto> meetings) {
+        return meetings.stream().map(UserProfileMeetingDto::getId).toList();
+    }
+}
@@ -0,0 +1,88 @@
+package com.groupmeet.application.repository;
+
+import com.groupmeet.application.fixture.UserFixture;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.model.MeetingWaitlistEntry;
+import com.groupmeet.application.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaTestConfiguration.class)
+@DisplayName("Meeting Waitlist Tests")
+class MeetingWaitlistTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MeetingWaitlistRepository meetingWaitlistRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    private Meeting meeting;
+    private List<MeetingWaitlistEntry> entries;
+
+    @BeforeEach
+    void setUp() {
+        User creator = entityManager.persist(UserFixture.createTestMaleUser("creator"));
+        meeting = new Meeting();
+        meeting.setTitle("Konzert");
+        meeting.setFormat(MeetingFormat.ONLINE);
+        meeting.setDateTime(LocalDateTime.now().plusDays(1));
+        meeting.setCreator(creator);
+        meeting.setMaxParticipants(1);
+        meeting.addParticipant(creator);
+        meeting.setParticipantCount(1);
+        meeting = entityManager.persist(meeting);
+
+        entries = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User waiting = entityManager.persist(UserFixture.createTestFemaleUser("waiting" + i));
+            entries.add(entityManager.persist(new MeetingWaitlistEntry(meeting, waiting)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Positions should follow the order in which users joined the waitlist")
+    void countUpToEntry_shouldReturnFifoPosition() {
+        assertEquals(1, meetingWaitlistRepository.countUpToEntry(meeting.getId(), entries.get(0).getId()));
+        assertEquals(3, meetingWaitlistRepository.countUpToEntry(meeting.getId(), entries.get(2).getId()));
+
+        meetingWaitlistRepository.deleteEntry(meeting.getId(), entries.get(0).getUser().getId());
+
+        assertEquals(2, meetingWaitlistRepository.countUpToEntry(meeting.getId(), entries.get(2).getId()));
+        assertEquals(2, meetingWaitlistRepository.countByMeeting_Id(meeting.getId()));
+        assertEquals(List.of(entries.get(1).getId(), entries.get(2).getId()),
+                meetingWaitlistRepository.findByMeeting_IdOrderByIdAsc(meeting.getId(), PageRequest.of(0, 10))
+                        .stream().map(MeetingWaitlistEntry::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Only meetings with free seats should be picked up for promotion")
+    void findMeetingIdsWithFreeSeats_shouldIgnoreFullMeetings() {
+        assertTrue(meetingWaitlistRepository.findMeetingIdsWithFreeSeats().isEmpty());
+
+        meetingRepository.updateMaxParticipantsIfFits(meeting.getId(), 2);
+
+        assertEquals(List.of(meeting.getId()), meetingWaitlistRepository.findMeetingIdsWithFreeSeats());
+    }
+}
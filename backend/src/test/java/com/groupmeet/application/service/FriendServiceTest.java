@@ -41,6 +41,9 @@ class FriendServiceTest {
     @Mock
     private FriendshipRepository friendshipRepository;
 
+    @Mock
+    private QuotaService quotaService;
+
     @InjectMocks
     private FriendService friendService;
 
@@ -139,6 +142,8 @@ class FriendServiceTest {
         assertDoesNotThrow(() -> friendService.removeFriend(currentUser.getUsername(), friend1.getId()));
 
         verify(friendshipRepository).delete(friendship1);
+        verify(quotaService).friendsChanged(currentUser.getId(), -1);
+        verify(quotaService).friendsChanged(friend1.getId(), -1);
     }
 
     @Test
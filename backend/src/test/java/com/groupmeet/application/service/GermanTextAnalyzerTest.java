@@ -0,0 +1,47 @@
+package com.groupmeet.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("German Text Analyzer Tests")
+class GermanTextAnalyzerTest {
+
+    @Test
+    @DisplayName("Should split on punctuation, lowercase and stem each token")
+    void analyze_shouldTokenizeAndStem() {
+        assertEquals(List.of("wander", "im", "spreewald"), GermanTextAnalyzer.analyze("Wanderungen im Spreewald!"));
+        assertEquals(List.of("les", "2024"), GermanTextAnalyzer.analyze("Lesung, 2024"));
+        assertTrue(GermanTextAnalyzer.analyze("  ").isEmpty());
+        assertTrue(GermanTextAnalyzer.analyze(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Umlauts and their typed spellings should fold to the same form")
+    void fold_shouldTreatUmlautSpellingsAlike() {
+        assertEquals(GermanTextAnalyzer.analyze("Grüne Wiese"), GermanTextAnalyzer.analyze("Gruene Wiese"));
+        assertEquals(GermanTextAnalyzer.analyze("Übungen"), GermanTextAnalyzer.analyze("Uebungen"));
+        assertEquals(GermanTextAnalyzer.analyze("Größe"), GermanTextAnalyzer.analyze("Groesse"));
+        assertEquals("gross", GermanTextAnalyzer.fold("groß"));
+        // "ue" after "q" is not an umlaut
+        assertEquals("quelle", GermanTextAnalyzer.fold("quelle"));
+    }
+
+    @Test
+    @DisplayName("Stemming should keep at least three letters and leave numbers alone")
+    void stem_shouldRespectMinimumLength() {
+        assertEquals("wander", GermanTextAnalyzer.stem("wanderung"));
+        assertEquals("ros", GermanTextAnalyzer.stem("rosen"));
+        assertEquals("see", GermanTextAnalyzer.stem("see"));
+        assertEquals("100", GermanTextAnalyzer.stem("100"));
+    }
+
+    @Test
+    @DisplayName("Tokenize should fold without stemming")
+    void tokenize_shouldNotStem() {
+        assertEquals(List.of("wanderungen", "uber", "berge"), GermanTextAnalyzer.tokenize("Wanderungen über Berge"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.groupmeet.application.service;
+
+import com.groupmeet.application.config.DataInitializer;
+import com.groupmeet.application.model.Location;
+import com.groupmeet.application.repository.LocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Location Geo Index Tests")
+class LocationGeoIndexTest {
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @InjectMocks
+    private LocationGeoIndex locationGeoIndex;
+
+    @BeforeEach
+    void setUp() {
+        List<Location> locations = new ArrayList<>();
+        DataInitializer.PREDEFINED_LOCATION_COORDINATES.forEach((name, coordinates) ->
+                locations.add(new Location(name, coordinates[0], coordinates[1])));
+        locations.add(new Location("Ohne Koordinaten"));
+        when(locationRepository.findAll()).thenReturn(locations);
+
+        locationGeoIndex.refresh();
+    }
+
+    @Test
+    @DisplayName("Should find neighbouring cities within the radius")
+    void findLocationNamesWithin_shouldIncludeNearbyCities() {
+        assertEquals(Set.of("düsseldorf", "essen", "köln"),
+                locationGeoIndex.findLocationNamesWithin("Düsseldorf", 40));
+        assertEquals(Set.of("düsseldorf", "essen", "köln", "dortmund"),
+                locationGeoIndex.findLocationNamesWithin("düsseldorf", 60));
+    }
+
+    @Test
+    @DisplayName("Should only return the location itself for small radii and unknown locations")
+    void findLocationNamesWithin_withoutNeighbours_shouldReturnOrigin() {
+        assertEquals(Set.of("düsseldorf"), locationGeoIndex.findLocationNamesWithin("Düsseldorf", 20));
+        assertEquals(Set.of("kleinstadt"), locationGeoIndex.findLocationNamesWithin("Kleinstadt", 100));
+        assertEquals(Set.of("ohne koordinaten"), locationGeoIndex.findLocationNamesWithin("Ohne Koordinaten", 100));
+    }
+}
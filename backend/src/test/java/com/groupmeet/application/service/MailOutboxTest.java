@@ -0,0 +1,121 @@
+package com.groupmeet.application.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Mail Outbox Tests")
+class MailOutboxTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private MailOutbox mailOutbox;
+    private MeterRegistry meterRegistry;
+    private JavaMailSender javaMailSender;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl smtpSender = new JavaMailSenderImpl();
+        smtpSender.setHost("localhost");
+        smtpSender.setPort(ServerSetupTest.SMTP.getPort());
+        javaMailSender = spy(smtpSender);
+        meterRegistry = new SimpleMeterRegistry();
+        mailOutbox = createOutbox(javaMailSender, 100);
+    }
+
+    private MailOutbox createOutbox(JavaMailSender sender, int capacity) {
+        MailOutbox outbox = new MailOutbox();
+        ReflectionTestUtils.setField(outbox, "javaMailSender", sender);
+        ReflectionTestUtils.setField(outbox, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(outbox, "capacity", capacity);
+        ReflectionTestUtils.setField(outbox, "batchSize", 40);
+        ReflectionTestUtils.setField(outbox, "maxAttempts", 3);
+        ReflectionTestUtils.setField(outbox, "retryDelayMs", 1000L);
+        outbox.registerMetrics();
+        return outbox;
+    }
+
+    private static List<SimpleMailMessage> messages(int count) {
+        List<SimpleMailMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom("noreply@groupmeet.test");
+            message.setTo("user" + i + "@example.com");
+            message.setSubject("GroupMeet - Erinnerung: Test");
+            message.setText("Nachricht " + i);
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    @Test
+    @DisplayName("Should deliver all queued mails in batches over one connection each")
+    void flush_shouldSendQueuedMailsInBatches() {
+        assertEquals(100, mailOutbox.enqueue(messages(100)));
+
+        mailOutbox.flush(System.currentTimeMillis());
+
+        assertEquals(100, greenMail.getReceivedMessages().length);
+        verify(javaMailSender, times(3)).send(any(SimpleMailMessage[].class));
+        assertEquals(0, mailOutbox.size());
+        assertEquals(100, meterRegistry.counter("mail.outbox.sent").count());
+    }
+
+    @Test
+    @DisplayName("Should reject mails that do not fit into the queue")
+    void enqueue_whenFull_shouldReject() {
+        assertEquals(100, mailOutbox.enqueue(messages(120)));
+
+        assertEquals(100, mailOutbox.size());
+        assertEquals(20, meterRegistry.counter("mail.outbox.rejected").count());
+    }
+
+    @Test
+    @DisplayName("Failed mails should be retried with backoff and dropped after the attempt limit")
+    void flush_withFailures_shouldRetryWithBackoff() {
+        JavaMailSender failingSender = mock(JavaMailSender.class);
+        MailOutbox outbox = createOutbox(failingSender, 100);
+        List<SimpleMailMessage> messages = messages(3);
+        SimpleMailMessage rejected = messages.get(1);
+        doThrow(new MailSendException(Map.of(rejected, new RuntimeException("550"))))
+                .when(failingSender).send(any(SimpleMailMessage[].class));
+        outbox.enqueue(messages);
+
+        long now = 1_000_000L;
+        outbox.flush(now);
+        assertEquals(2, meterRegistry.counter("mail.outbox.sent").count());
+        assertEquals(1, outbox.size());
+
+        // First retry after one second, the second one after two more
+        outbox.flush(now + 999);
+        verify(failingSender, times(1)).send(any(SimpleMailMessage[].class));
+        outbox.flush(now + 1000);
+        verify(failingSender, times(2)).send(any(SimpleMailMessage[].class));
+        outbox.flush(now + 2999);
+        verify(failingSender, times(2)).send(any(SimpleMailMessage[].class));
+        outbox.flush(now + 3000);
+
+        assertEquals(0, outbox.size());
+        assertEquals(2, meterRegistry.counter("mail.outbox.retried").count());
+        assertEquals(1, meterRegistry.counter("mail.outbox.failed").count());
+    }
+}
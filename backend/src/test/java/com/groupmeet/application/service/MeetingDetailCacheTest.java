@@ -0,0 +1,122 @@
+package com.groupmeet.application.service;
+
+import com.google.common.cache.CacheBuilder;
+import com.groupmeet.application.dto.MeetingDetailDto;
+import com.groupmeet.application.event.MeetingMembersChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Meeting Detail Cache Tests")
+class MeetingDetailCacheTest {
+
+    private static final Long MEETING_ID = 7L;
+
+    private MeetingDetailCache detailCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        detailCache = new MeetingDetailCache();
+        ReflectionTestUtils.setField(detailCache, "meetingDetailCache",
+                CacheBuilder.newBuilder().maximumSize(100).build());
+        loads = new AtomicInteger();
+    }
+
+    private MeetingDetailCache.CachedMeetingDetail load() {
+        return load(MEETING_ID);
+    }
+
+    private MeetingDetailCache.CachedMeetingDetail load(Long meetingId) {
+        loads.incrementAndGet();
+        MeetingDetailDto detail = new MeetingDetailDto();
+        detail.setId(meetingId);
+        detail.setTitle("Lauftreff");
+        return new MeetingDetailCache.CachedMeetingDetail(detail, "organizer");
+    }
+
+    @Test
+    @DisplayName("Should load the shared details once and tag them per viewer")
+    void get_shouldCacheAndTagPerViewer() {
+        assertNull(detailCache.findETag(MEETING_ID, "anna"));
+
+        MeetingDetailCache.CachedMeetingDetail first = detailCache.get(MEETING_ID, this::load);
+        MeetingDetailCache.CachedMeetingDetail second = detailCache.get(MEETING_ID, this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(detailCache.eTag(first, "anna"), detailCache.findETag(MEETING_ID, "anna"));
+        assertNotEquals(detailCache.findETag(MEETING_ID, "anna"), detailCache.findETag(MEETING_ID, "bernd"));
+        assertNotEquals(detailCache.findETag(MEETING_ID, "anna"), detailCache.findETag(MEETING_ID, null));
+    }
+
+    @Test
+    @DisplayName("A membership change should drop the details and give the next load a new ETag")
+    void onMeetingMembersChanged_shouldChangeETag() {
+        String before = detailCache.eTag(detailCache.get(MEETING_ID, this::load), "anna");
+
+        detailCache.onMeetingMembersChanged(new MeetingMembersChangedEvent(MEETING_ID));
+        assertNull(detailCache.findETag(MEETING_ID, "anna"));
+
+        String after = detailCache.eTag(detailCache.get(MEETING_ID, this::load), "anna");
+        assertEquals(2, loads.get());
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    @DisplayName("Details loaded while the meeting changed should not be cached")
+    void get_withChangeDuringLoad_shouldNotCache() {
+        detailCache.get(MEETING_ID, () -> {
+            MeetingDetailCache.CachedMeetingDetail loaded = load();
+            detailCache.invalidate(MEETING_ID);
+            return loaded;
+        });
+
+        assertNull(detailCache.findETag(MEETING_ID, "anna"));
+        detailCache.get(MEETING_ID, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Changes to other meetings during a load should not keep the details from being cached")
+    void get_withOtherMeetingChangedDuringLoad_shouldCache() {
+        detailCache.get(MEETING_ID, () -> {
+            MeetingDetailCache.CachedMeetingDetail loaded = load();
+            detailCache.invalidate(MEETING_ID + 1);
+            return loaded;
+        });
+
+        assertNotNull(detailCache.findETag(MEETING_ID, "anna"));
+        detailCache.get(MEETING_ID, this::load);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should load only the uncached meetings of a batch, together, and keep the requested order")
+    void getAll_shouldLoadMissingMeetingsTogether() {
+        detailCache.get(MEETING_ID, this::load);
+        List<Collection<Long>> batches = new ArrayList<>();
+
+        Map<Long, MeetingDetailCache.CachedMeetingDetail> details = detailCache.getAll(
+                List.of(9L, MEETING_ID, -1L, 8L), ids -> {
+                    batches.add(List.copyOf(ids));
+                    return ids.stream().filter(id -> id > 0).collect(Collectors.toMap(id -> id, this::load));
+                });
+
+        assertEquals(List.of(9L, MEETING_ID, 8L), List.copyOf(details.keySet()));
+        assertEquals(List.of(List.of(9L, -1L, 8L)), batches);
+        assertEquals(3, loads.get());
+        assertNotNull(detailCache.findETag(8L, "anna"));
+        assertNull(detailCache.findETag(-1L, "anna"));
+    }
+}
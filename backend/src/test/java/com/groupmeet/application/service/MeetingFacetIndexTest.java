@@ -0,0 +1,135 @@
+package com.groupmeet.application.service;
+
+import com.groupmeet.application.dto.MeetingFacetsDto;
+import com.groupmeet.application.dto.MeetingSearchCriteriaDto;
+import com.groupmeet.application.event.MeetingChangedEvent;
+import com.groupmeet.application.event.MeetingSnapshot;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.repository.MeetingSpecifications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Meeting Facet Index Tests")
+class MeetingFacetIndexTest {
+
+    private MeetingFacetIndex facetIndex;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        facetIndex = new MeetingFacetIndex();
+        now = LocalDateTime.now();
+
+        create(1L, MeetingFormat.OFFLINE, "Berlin", now.plusDays(1), "Sport");
+        create(2L, MeetingFormat.OFFLINE, "Berlin", now.plusDays(2), "Sport", "Musik");
+        create(3L, MeetingFormat.OFFLINE, "Hamburg", now.plusDays(3), "Musik");
+        create(4L, MeetingFormat.ONLINE, null, now.plusDays(4), "Sport");
+        create(5L, MeetingFormat.OFFLINE, "Berlin", now.minusDays(1), "Sport");
+    }
+
+    @Test
+    @DisplayName("Should count every facet value without active criteria")
+    void facets_withoutCriteria_shouldCountUpcomingMeetings() {
+        MeetingFacetsDto facets = facets(new MeetingSearchCriteriaDto(), null);
+
+        assertEquals(Map.of("Sport", 3L, "Musik", 2L), facets.getTypes());
+        assertEquals(Map.of("OFFLINE", 3L, "ONLINE", 1L), facets.getFormats());
+        assertEquals(Map.of("Berlin", 2L, "Hamburg", 1L), facets.getLocations());
+        assertEquals(List.of("Sport", "Musik"), List.copyOf(facets.getTypes().keySet()));
+    }
+
+    @Test
+    @DisplayName("Should count each facet against all other active criteria")
+    void facets_withCriteria_shouldExcludeOwnFilter() {
+        MeetingSearchCriteriaDto criteria = new MeetingSearchCriteriaDto();
+        criteria.setTypes(List.of("Sport"));
+        criteria.setLocation("berlin");
+
+        MeetingFacetsDto facets = facets(criteria, null);
+
+        assertEquals(Map.of("Sport", 2L, "Musik", 1L), facets.getTypes());
+        assertEquals(Map.of("Berlin", 2L), facets.getLocations());
+        // The location filter does not apply to online meetings
+        assertEquals(Map.of("OFFLINE", 2L, "ONLINE", 1L), facets.getFormats());
+    }
+
+    @Test
+    @DisplayName("Should restrict counts to meetings matched by the search term")
+    void facets_withTermMatches_shouldOnlyCountMatches() {
+        MeetingFacetsDto facets = facets(new MeetingSearchCriteriaDto(), List.of(2L, 3L));
+
+        assertEquals(Map.of("Musik", 2L, "Sport", 1L), facets.getTypes());
+        assertEquals(Map.of("OFFLINE", 2L), facets.getFormats());
+    }
+
+    @Test
+    @DisplayName("Should follow meeting updates and deletions")
+    void onMeetingChanged_shouldMaintainBitmaps() {
+        facetIndex.onMeetingChanged(MeetingChangedEvent.updated(
+                new MeetingSnapshot(3L, null, null, MeetingFormat.OFFLINE, "Hamburg", now.plusDays(3), List.of("Musik")),
+                new MeetingSnapshot(3L, null, null, MeetingFormat.OFFLINE, "Berlin", now.plusDays(3), List.of("Sport"))));
+        facetIndex.onMeetingChanged(MeetingChangedEvent.deleted(
+                new MeetingSnapshot(4L, null, null, MeetingFormat.ONLINE, null, now.plusDays(4), List.of("Sport"))));
+
+        MeetingFacetsDto facets = facets(new MeetingSearchCriteriaDto(), null);
+
+        assertEquals(Map.of("Sport", 3L, "Musik", 1L), facets.getTypes());
+        assertEquals(Map.of("OFFLINE", 3L), facets.getFormats());
+        assertEquals(Map.of("Berlin", 3L), facets.getLocations());
+    }
+
+    @Test
+    @DisplayName("Should keep selected values that no longer match")
+    void facets_withUnmatchedSelection_shouldReportZero() {
+        MeetingSearchCriteriaDto criteria = new MeetingSearchCriteriaDto();
+        criteria.setTypes(List.of("Kochen"));
+
+        MeetingFacetsDto facets = facets(criteria, null);
+
+        assertEquals(0L, facets.getTypes().get("Kochen"));
+        assertTrue(facets.getLocations().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should filter candidates by the criteria and keep their order")
+    void filter_shouldApplyCriteriaInCandidateOrder() {
+        MeetingSearchCriteriaDto criteria = new MeetingSearchCriteriaDto();
+        criteria.setTypes(List.of("Sport"));
+        criteria.setLocation("berlin");
+
+        List<Long> matches = facetIndex.filter(criteria, MeetingSpecifications.requestedLocation(criteria),
+                now.minusHours(2), List.of(4L, 3L, 5L, 2L, 1L, 99L));
+
+        // Without a format the location filter also drops online meetings, as in the database query
+        assertEquals(List.of(2L, 1L), matches);
+    }
+
+    @Test
+    @DisplayName("Should order filtered candidates by start and seek past a position")
+    void filterByStart_shouldOrderByDateAndSeek() {
+        MeetingSearchCriteriaDto criteria = new MeetingSearchCriteriaDto();
+        create(6L, MeetingFormat.ONLINE, null, now.plusDays(2), "Musik");
+
+        assertEquals(List.of(1L, 2L, 6L, 3L, 4L), facetIndex.filterByStart(criteria, null, now.minusHours(2),
+                List.of(6L, 4L, 3L, 2L, 1L, 5L), null, null));
+        assertEquals(List.of(6L, 3L, 4L), facetIndex.filterByStart(criteria, null, now.minusHours(2),
+                List.of(6L, 4L, 3L, 2L, 1L, 5L), now.plusDays(2), 2L));
+    }
+
+    private MeetingFacetsDto facets(MeetingSearchCriteriaDto criteria, List<Long> termMatches) {
+        return facetIndex.facets(criteria, MeetingSpecifications.requestedLocation(criteria), now.minusHours(2),
+                termMatches);
+    }
+
+    private void create(Long id, MeetingFormat format, String location, LocalDateTime dateTime, String... types) {
+        facetIndex.onMeetingChanged(MeetingChangedEvent.created(
+                new MeetingSnapshot(id, "Meeting " + id, null, format, location, dateTime, List.of(types))));
+    }
+}
@@ -0,0 +1,140 @@
+package com.groupmeet.application.service;
+
+import com.groupmeet.application.fixture.UserFixture;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.model.User;
+import com.groupmeet.application.repository.JpaTestConfiguration;
+import com.groupmeet.application.repository.MeetingRepository;
+import com.groupmeet.application.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares join throughput of one transaction per command with the striped writer executor.
+ * Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaTestConfiguration.class)
+@Import(MeetingMembershipExecutor.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Meeting Membership Benchmark")
+class MeetingMembershipBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeetingMembershipBenchmarkTest.class);
+
+    private static final int MEETINGS = 20;
+    private static final int USERS = 100;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private MeetingMembershipExecutor membershipExecutor;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private List<Long> meetingIds;
+    private List<Long> userIds;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User creator = userRepository.save(UserFixture.createTestMaleUser("creator"));
+            meetingIds = new ArrayList<>();
+            for (int i = 0; i < MEETINGS; i++) {
+                Meeting meeting = new Meeting();
+                meeting.setTitle("Treffen " + i);
+                meeting.setFormat(MeetingFormat.ONLINE);
+                meeting.setDateTime(LocalDateTime.now().plusDays(1));
+                meeting.setCreator(creator);
+                meeting.addParticipant(creator);
+                meeting.setParticipantCount(1);
+                meetingIds.add(meetingRepository.save(meeting).getId());
+            }
+            userIds = new ArrayList<>();
+            for (int i = 0; i < USERS; i++) {
+                userIds.add(userRepository.save(UserFixture.createTestFemaleUser("joiner" + i)).getId());
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            meetingRepository.deleteAll();
+            userRepository.deleteAll();
+        });
+    }
+
+    @Test
+    @DisplayName("Joins with one transaction per command")
+    void joinsWithTransactionPerCommand() throws Exception {
+        measure("transaction per command", (meetingId, userId) ->
+                transactionTemplate.executeWithoutResult(status -> join(meetingId, userId)));
+    }
+
+    @Test
+    @DisplayName("Joins through the striped writer executor")
+    void joinsThroughWriterExecutor() throws Exception {
+        measure("striped writer executor", (meetingId, userId) ->
+                membershipExecutor.run(meetingId, () -> join(meetingId, userId)));
+    }
+
+    private void measure(String path, BiConsumer<Long, Long> joinCommand) throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> joins = new ArrayList<>();
+        long startedAt = System.nanoTime();
+        for (Long userId : userIds) {
+            for (Long meetingId : meetingIds) {
+                joins.add(callers.submit(() -> joinCommand.accept(meetingId, userId)));
+            }
+        }
+        for (Future<?> join : joins) {
+            join.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        callers.shutdown();
+
+        logger.info("{}: {} joins on {} threads in {} ms ({} joins/s).", path, joins.size(), THREADS,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                Math.round(joins.size() / (elapsedNanos / 1_000_000_000.0)));
+        assertTrue(meetingRepository.findParticipantCountDrift().isEmpty());
+    }
+
+    private void join(Long meetingId, Long userId) {
+        meetingRepository.reserveSeat(meetingId);
+        meetingRepository.insertParticipant(meetingId, userId);
+    }
+}
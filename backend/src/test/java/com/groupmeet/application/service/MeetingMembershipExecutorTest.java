@@ -0,0 +1,260 @@
+package com.groupmeet.application.service;
+
+import com.groupmeet.application.fixture.UserFixture;
+import com.groupmeet.application.model.Meeting;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.model.User;
+import com.groupmeet.application.repository.JpaTestConfiguration;
+import com.groupmeet.application.repository.MeetingRepository;
+import com.groupmeet.application.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaTestConfiguration.class)
+@Import(MeetingMembershipExecutor.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Meeting Membership Executor Tests")
+class MeetingMembershipExecutorTest {
+
+    private static final int MAX_PARTICIPANTS = 5;
+
+    @Autowired
+    private MeetingMembershipExecutor membershipExecutor;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Long meetingId;
+    private List<Long> userIds;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User creator = userRepository.save(UserFixture.createTestMaleUser("creator"));
+            Meeting meeting = new Meeting();
+            meeting.setTitle("Konzert");
+            meeting.setFormat(MeetingFormat.ONLINE);
+            meeting.setDateTime(LocalDateTime.now().plusDays(1));
+            meeting.setCreator(creator);
+            meeting.setMaxParticipants(MAX_PARTICIPANTS);
+            meeting.addParticipant(creator);
+            meeting.setParticipantCount(1);
+            meetingId = meetingRepository.save(meeting).getId();
+
+            userIds = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                userIds.add(userRepository.save(UserFixture.createTestFemaleUser("joiner" + i)).getId());
+            }
+        });
+        callers = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        transactionTemplate.executeWithoutResult(status -> {
+            meetingRepository.deleteAll();
+            userRepository.deleteAll();
+        });
+    }
+
+    @Test
+    @DisplayName("Rejected commands should not affect the other commands of their batch")
+    void execute_withRejectedCommands_shouldCommitTheOthers() throws Exception {
+        List<Future<?>> joins = new ArrayList<>();
+        for (Long userId : userIds) {
+            joins.add(callers.submit(() -> membershipExecutor.run(meetingId, () -> join(userId))));
+        }
+
+        int joined = 0;
+        int rejected = 0;
+        for (Future<?> join : joins) {
+            try {
+                join.get(10, TimeUnit.SECONDS);
+                joined++;
+            } catch (ExecutionException e) {
+                assertInstanceOf(ResponseStatusException.class, e.getCause());
+                rejected++;
+            }
+        }
+
+        assertEquals(MAX_PARTICIPANTS - 1, joined);
+        assertEquals(userIds.size() - MAX_PARTICIPANTS + 1, rejected);
+        assertEquals(MAX_PARTICIPANTS, meetingRepository.findById(meetingId).orElseThrow().getParticipantCount());
+        assertTrue(meetingRepository.findParticipantCountDrift().isEmpty());
+    }
+
+    @Test
+    @DisplayName("A failing command should be retried alone without losing the rest of its batch")
+    void execute_withFailingCommand_shouldIsolateFailure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> blocker = callers.submit(() -> membershipExecutor.run(meetingId, () -> await(release)));
+        Thread.sleep(100);
+
+        Future<?> first = callers.submit(() -> membershipExecutor.run(meetingId, () -> join(userIds.get(0))));
+        Future<?> failing = callers.submit(() -> membershipExecutor.run(meetingId, () -> {
+            meetingRepository.adjustParticipantCount(meetingId, 1);
+            throw new IllegalStateException("Simulated failure");
+        }));
+        Future<?> second = callers.submit(() -> membershipExecutor.run(meetingId, () -> join(userIds.get(1))));
+        // Queued behind the blocker, so the three commands are committed as one batch
+        Thread.sleep(100);
+        release.countDown();
+
+        blocker.get(10, TimeUnit.SECONDS);
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> failing.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+
+        assertEquals(3, meetingRepository.findById(meetingId).orElseThrow().getParticipantCount());
+        assertTrue(meetingRepository.findParticipantCountDrift().isEmpty());
+    }
+
+    @Test
+    @DisplayName("An Error thrown by a command should fail it without stopping the writer thread")
+    void execute_withError_shouldKeepStripeRunning() {
+        assertThrows(StackOverflowError.class, () -> membershipExecutor.run(meetingId, () -> {
+            throw new StackOverflowError();
+        }));
+
+        membershipExecutor.run(meetingId, () -> join(userIds.get(0)));
+
+        assertEquals(2, meetingRepository.findById(meetingId).orElseThrow().getParticipantCount());
+    }
+
+    @Test
+    @DisplayName("A command that is not started in time should fail with 503 and not run afterwards")
+    void execute_withTimeout_shouldFailAndDropCommand() throws Exception {
+        MeetingMembershipExecutor executor = newExecutor(200);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> blocker = callers.submit(() -> executor.run(meetingId, () -> await(release)));
+        Thread.sleep(100);
+
+        ResponseStatusException timeout = assertThrows(ResponseStatusException.class,
+                () -> executor.run(meetingId, () -> join(userIds.get(0))));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, timeout.getStatusCode());
+
+        release.countDown();
+        blocker.get(10, TimeUnit.SECONDS);
+        // The next command runs behind the dropped one on the same thread
+        executor.run(meetingId, () -> { });
+        executor.stop();
+
+        assertEquals(1, meetingRepository.findById(meetingId).orElseThrow().getParticipantCount());
+    }
+
+    @Test
+    @DisplayName("A started command that outlasts the timeout should still report its result")
+    void execute_withStartedCommandPastTimeout_shouldWaitForResult() {
+        MeetingMembershipExecutor executor = newExecutor(200);
+
+        String result = executor.execute(meetingId, () -> {
+            join(userIds.get(0));
+            await(new CountDownLatch(1), 400);
+            return "beigetreten";
+        });
+        executor.stop();
+
+        assertEquals("beigetreten", result);
+        assertEquals(2, meetingRepository.findById(meetingId).orElseThrow().getParticipantCount());
+    }
+
+    @Test
+    @DisplayName("Queued and new commands should fail with 503 once the executor is stopped")
+    void stop_shouldFailQueuedAndNewCommands() throws Exception {
+        MeetingMembershipExecutor executor = newExecutor(10_000);
+        CountDownLatch release = new CountDownLatch(1);
+        callers.submit(() -> executor.run(meetingId, () -> await(release)));
+        Thread.sleep(100);
+        Future<?> queued = callers.submit(() -> executor.run(meetingId, () -> join(userIds.get(0))));
+        Thread.sleep(100);
+
+        executor.stop();
+        release.countDown();
+
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> queued.get(10, TimeUnit.SECONDS));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE,
+                assertInstanceOf(ResponseStatusException.class, failure.getCause()).getStatusCode());
+        ResponseStatusException rejected = assertThrows(ResponseStatusException.class,
+                () -> executor.run(meetingId, () -> join(userIds.get(1))));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getStatusCode());
+        assertEquals(1, meetingRepository.findById(meetingId).orElseThrow().getParticipantCount());
+    }
+
+    // A separate executor with one stripe, so stopping it does not affect the shared bean
+    private MeetingMembershipExecutor newExecutor(long timeoutMs) {
+        MeetingMembershipExecutor executor = new MeetingMembershipExecutor();
+        ReflectionTestUtils.setField(executor, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(executor, "entityManager", entityManager);
+        ReflectionTestUtils.setField(executor, "stripeCount", 1);
+        ReflectionTestUtils.setField(executor, "maxBatchSize", 32);
+        ReflectionTestUtils.setField(executor, "timeoutMs", timeoutMs);
+        executor.start();
+        return executor;
+    }
+
+    private void join(Long userId) {
+        if (meetingRepository.reserveSeat(meetingId) == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Meeting voll");
+        }
+        meetingRepository.insertParticipant(meetingId, userId);
+    }
+
+    private static void await(CountDownLatch latch) {
+        await(latch, 10_000);
+    }
+
+    private static void await(CountDownLatch latch, long timeoutMs) {
+        try {
+            latch.await(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
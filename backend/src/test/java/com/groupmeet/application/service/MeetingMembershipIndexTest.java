@@ -0,0 +1,90 @@
+package com.groupmeet.application.service;
+
+import com.google.common.cache.CacheBuilder;
+import com.groupmeet.application.event.MeetingMembersChangedEvent;
+import com.groupmeet.application.model.ParticipationStatus;
+import com.groupmeet.application.repository.MeetingParticipationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Meeting Membership Index Tests")
+class MeetingMembershipIndexTest {
+
+    @Mock
+    private MeetingParticipationRepository meetingParticipationRepository;
+
+    @InjectMocks
+    private MeetingMembershipIndex membershipIndex;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(membershipIndex, "meetingMembershipIndexCache",
+                CacheBuilder.newBuilder().maximumSize(100).build());
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    @Test
+    @DisplayName("Should load the memberships once and answer lookups from memory")
+    void get_shouldLoadOnceAndLookUp() {
+        when(meetingParticipationRepository.findMeetingStatusesByUsername("anna")).thenReturn(rows(
+                new Object[] { 42L, ParticipationStatus.ACTIVE },
+                new Object[] { 7L, ParticipationStatus.ACTIVE },
+                new Object[] { 13L, ParticipationStatus.BLOCKED }));
+
+        MeetingMembershipIndex.UserMemberships memberships = membershipIndex.get("anna");
+        assertSame(memberships, membershipIndex.get("anna"));
+
+        assertTrue(memberships.isJoined(7L));
+        assertTrue(memberships.isJoined(42L));
+        assertFalse(memberships.isJoined(13L));
+        assertTrue(memberships.isBlocked(13L));
+        assertFalse(memberships.isBlocked(7L));
+        assertFalse(memberships.isJoined(99L));
+        verify(meetingParticipationRepository, times(1)).findMeetingStatusesByUsername("anna");
+    }
+
+    @Test
+    @DisplayName("A membership change should only drop the affected users")
+    void onMeetingMembersChanged_shouldInvalidateAffectedUsers() {
+        when(meetingParticipationRepository.findMeetingStatusesByUsername(anyString())).thenReturn(rows());
+        membershipIndex.get("anna");
+        membershipIndex.get("bernd");
+
+        membershipIndex.onMeetingMembersChanged(new MeetingMembersChangedEvent(7L, List.of("anna")));
+        membershipIndex.get("anna");
+        membershipIndex.get("bernd");
+
+        verify(meetingParticipationRepository, times(2)).findMeetingStatusesByUsername("anna");
+        verify(meetingParticipationRepository, times(1)).findMeetingStatusesByUsername("bernd");
+    }
+
+    @Test
+    @DisplayName("Memberships loaded while they changed should not be cached")
+    void get_withChangeDuringLoad_shouldNotCache() {
+        when(meetingParticipationRepository.findMeetingStatusesByUsername("anna")).thenAnswer(invocation -> {
+            membershipIndex.onMeetingMembersChanged(new MeetingMembersChangedEvent(7L, List.of("anna")));
+            return rows();
+        });
+
+        membershipIndex.get("anna");
+        membershipIndex.get("anna");
+
+        verify(meetingParticipationRepository, times(2)).findMeetingStatusesByUsername("anna");
+    }
+}
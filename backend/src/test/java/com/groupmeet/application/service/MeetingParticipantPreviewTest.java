@@ -0,0 +1,109 @@
+package com.groupmeet.application.service;
+
+import com.groupmeet.application.fixture.UserFixture;
+import com.groupmeet.application.model.User;
+import com.groupmeet.application.repository.MeetingParticipationRepository;
+import com.groupmeet.application.repository.MeetingRepository;
+import com.groupmeet.application.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Meeting Participant Preview Tests")
+class MeetingParticipantPreviewTest {
+
+    private static final Long MEETING_ID = 7L;
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private MeetingParticipationRepository meetingParticipationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private MeetingParticipantPreview participantPreview;
+
+    @Test
+    @DisplayName("New participants should fill up free places without querying the participations")
+    void participantsAdded_shouldAppendUntilFull() {
+        when(meetingRepository.findParticipantPreview(MEETING_ID)).thenReturn("3,5");
+
+        participantPreview.participantsAdded(MEETING_ID, List.of(5L, 8L, 9L, 11L));
+
+        verify(meetingRepository).updateParticipantPreview(MEETING_ID, "3,5,8,9");
+        verifyNoInteractions(meetingParticipationRepository);
+    }
+
+    @Test
+    @DisplayName("A full preview should not be written again")
+    void participantsAdded_withFullPreview_shouldNotUpdate() {
+        when(meetingRepository.findParticipantPreview(MEETING_ID)).thenReturn("3,5,8,9");
+
+        participantPreview.participantsAdded(MEETING_ID, List.of(12L));
+
+        verify(meetingRepository, never()).updateParticipantPreview(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Removing a previewed participant should refill the preview from the participations")
+    void participantRemoved_withPreviewedUser_shouldRefresh() {
+        when(meetingRepository.findParticipantPreview(MEETING_ID)).thenReturn("3,5,8,9");
+        when(meetingParticipationRepository.findParticipantPreviewIds(MEETING_ID, PageRequest.of(0, 4)))
+                .thenReturn(List.of(3L, 8L, 9L, 12L));
+
+        participantPreview.participantRemoved(MEETING_ID, 5L);
+
+        verify(meetingRepository).updateParticipantPreview(MEETING_ID, "3,8,9,12");
+    }
+
+    @Test
+    @DisplayName("Removing a participant outside the preview should leave it unchanged")
+    void participantRemoved_withOtherUser_shouldNotUpdate() {
+        when(meetingRepository.findParticipantPreview(MEETING_ID)).thenReturn("3,5,8,9");
+
+        participantPreview.participantRemoved(MEETING_ID, 12L);
+
+        verify(meetingRepository, never()).updateParticipantPreview(any(), anyString());
+        verifyNoInteractions(meetingParticipationRepository);
+    }
+
+    @Test
+    @DisplayName("Should return the previewed users in join order")
+    void findUsers_shouldKeepStoredOrder() {
+        User anna = UserFixture.createTestFemaleUser("anna");
+        anna.setId(8L);
+        User bernd = UserFixture.createTestMaleUser("bernd");
+        bernd.setId(3L);
+        when(meetingRepository.findParticipantPreview(MEETING_ID)).thenReturn("8,3");
+        when(userRepository.findAllById(List.of(8L, 3L))).thenReturn(List.of(bernd, anna));
+
+        assertEquals(List.of(anna, bernd), participantPreview.findUsers(MEETING_ID));
+        verifyNoInteractions(meetingParticipationRepository);
+    }
+
+    @Test
+    @DisplayName("Meetings without a stored preview should fall back to the participations")
+    void findUsers_withoutStoredPreview_shouldQueryParticipations() {
+        when(meetingRepository.findParticipantPreview(MEETING_ID)).thenReturn(null);
+        when(meetingParticipationRepository.findParticipantPreviewIds(MEETING_ID, PageRequest.of(0, 4)))
+                .thenReturn(List.of());
+
+        assertTrue(participantPreview.findUsers(MEETING_ID).isEmpty());
+        verifyNoInteractions(userRepository);
+    }
+}
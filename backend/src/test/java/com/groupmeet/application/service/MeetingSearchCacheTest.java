@@ -0,0 +1,169 @@
+package com.groupmeet.application.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.groupmeet.application.dto.MeetingDto;
+import com.groupmeet.application.dto.MeetingSearchCriteriaDto;
+import com.groupmeet.application.event.MeetingChangedEvent;
+import com.groupmeet.application.event.MeetingMembersChangedEvent;
+import com.groupmeet.application.event.MeetingSnapshot;
+import com.groupmeet.application.model.MeetingFormat;
+import com.groupmeet.application.repository.MeetingSpecifications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Meeting Search Cache Tests")
+class MeetingSearchCacheTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10, Sort.by("dateTime"));
+
+    private MeetingSearchCache searchCache;
+    private Cache<MeetingSearchCacheKey, Page<MeetingDto>> resultCache;
+    private LocalDateTime notBefore;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        resultCache = CacheBuilder.newBuilder().maximumSize(100).recordStats().build();
+        searchCache = new MeetingSearchCache();
+        ReflectionTestUtils.setField(searchCache, "meetingSearchResultCache", resultCache);
+        notBefore = LocalDateTime.now().minusHours(2);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Equivalent criteria should share one cache entry")
+    void get_withEquivalentCriteria_shouldHitCache() {
+        MeetingSearchCriteriaDto criteria = sportInBerlin();
+        criteria.setSearchTerm("  Lauftreff ");
+        MeetingSearchCriteriaDto equivalent = sportInBerlin();
+        equivalent.setSearchTerm("lauftreff");
+        equivalent.setLocation("BERLIN");
+
+        search(criteria, meeting(1L));
+        Page<MeetingDto> cached = search(equivalent, meeting(2L));
+
+        assertEquals(1, loads.get());
+        assertEquals(1L, cached.getContent().get(0).getId());
+        assertEquals(1, resultCache.stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("A new meeting matching the criteria should evict the cached pages")
+    void onMeetingChanged_withMatchingMeeting_shouldEvict() {
+        search(sportInBerlin(), meeting(1L));
+
+        searchCache.onMeetingChanged(MeetingChangedEvent.created(
+                snapshot(7L, MeetingFormat.OFFLINE, "Berlin", "Sport")));
+
+        assertEquals(0, resultCache.size());
+    }
+
+    @Test
+    @DisplayName("Changes to unrelated meetings should keep the cached pages")
+    void onMeetingChanged_withUnrelatedMeeting_shouldKeepEntry() {
+        search(sportInBerlin(), meeting(1L));
+
+        searchCache.onMeetingChanged(MeetingChangedEvent.created(
+                snapshot(7L, MeetingFormat.OFFLINE, "Hamburg", "Sport")));
+        searchCache.onMeetingChanged(MeetingChangedEvent.updated(
+                snapshot(8L, MeetingFormat.ONLINE, null, "Musik"),
+                snapshot(8L, MeetingFormat.OFFLINE, "Berlin", "Musik")));
+
+        assertEquals(1, resultCache.size());
+    }
+
+    @Test
+    @DisplayName("A meeting moving out of the result set should evict the pages showing it")
+    void onMeetingChanged_withMeetingLeavingResults_shouldEvict() {
+        search(sportInBerlin(), meeting(1L));
+
+        searchCache.onMeetingChanged(MeetingChangedEvent.updated(
+                snapshot(1L, MeetingFormat.OFFLINE, "Berlin", "Sport"),
+                snapshot(1L, MeetingFormat.OFFLINE, "Hamburg", "Sport")));
+
+        assertEquals(0, resultCache.size());
+    }
+
+    @Test
+    @DisplayName("A partly typed search term should evict pages the new meeting would appear on")
+    void onMeetingChanged_withPartlyTypedTerm_shouldEvict() {
+        MeetingSearchCriteriaDto criteria = new MeetingSearchCriteriaDto();
+        criteria.setSearchTerm("wanderu");
+        search(criteria, meeting(1L));
+
+        searchCache.onMeetingChanged(MeetingChangedEvent.created(new MeetingSnapshot(7L, "Wanderung im Harz", null,
+                MeetingFormat.OFFLINE, "Goslar", LocalDateTime.now().plusDays(1), List.of("Sport"))));
+
+        assertEquals(0, resultCache.size());
+    }
+
+    @Test
+    @DisplayName("Membership changes should evict only the pages showing the meeting")
+    void onMeetingMembersChanged_shouldEvictPagesShowingMeeting() {
+        search(sportInBerlin(), meeting(1L));
+        MeetingSearchCriteriaDto online = new MeetingSearchCriteriaDto();
+        online.setFormat(MeetingFormat.ONLINE);
+        search(online, meeting(2L));
+
+        searchCache.onMeetingMembersChanged(new MeetingMembersChangedEvent(1L, List.of("anna")));
+
+        assertEquals(1, resultCache.size());
+        assertNull(resultCache.getIfPresent(MeetingSearchCacheKey.of(sportInBerlin(), Set.of("berlin"), notBefore,
+                FIRST_PAGE)));
+    }
+
+    @Test
+    @DisplayName("A page loaded while a meeting changed should not be cached")
+    void get_withChangeDuringLoad_shouldNotCacheStalePage() {
+        searchCache.get(MeetingSearchCacheKey.of(sportInBerlin(), Set.of("berlin"), notBefore, FIRST_PAGE), () -> {
+            searchCache.onMeetingChanged(MeetingChangedEvent.deleted(
+                    snapshot(9L, MeetingFormat.ONLINE, null, "Musik")));
+            return new PageImpl<>(List.of(meeting(1L)), FIRST_PAGE, 1);
+        });
+
+        assertEquals(0, resultCache.size());
+    }
+
+    private Page<MeetingDto> search(MeetingSearchCriteriaDto criteria, MeetingDto result) {
+        MeetingSearchCacheKey key = MeetingSearchCacheKey.of(criteria,
+                MeetingSpecifications.requestedLocation(criteria), notBefore, FIRST_PAGE);
+        return searchCache.get(key, () -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of(result), FIRST_PAGE, 1);
+        });
+    }
+
+    private MeetingSearchCriteriaDto sportInBerlin() {
+        MeetingSearchCriteriaDto criteria = new MeetingSearchCriteriaDto();
+        criteria.setTypes(List.of("Sport"));
+        criteria.setLocation("Berlin");
+        return criteria;
+    }
+
+    private MeetingDto meeting(Long id) {
+        MeetingDto dto = new MeetingDto();
+        dto.setId(id);
+        dto.setTitle("Lauftreff " + id);
+        return dto;
+    }
+
+    private MeetingSnapshot snapshot(Long id, MeetingFormat format, String location, String type) {
+        return new MeetingSnapshot(id, "Treffen " + id, null, format, location, LocalDateTime.now().plusDays(1),
+                List.of(type));
+    }
+}
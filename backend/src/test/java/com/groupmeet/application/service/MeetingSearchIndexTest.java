@@ -0,0 +1,84 @@
+package com.groupmeet.application.service;
+
+import com.groupmeet.application.event.MeetingChangedEvent;
+import com.groupmeet.application.event.MeetingSnapshot;
+import com.groupmeet.application.model.MeetingFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Meeting Search Index Tests")
+class MeetingSearchIndexTest {
+
+    private MeetingSearchIndex searchIndex;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new MeetingSearchIndex();
+        now = LocalDateTime.now();
+
+        create(1L, "Wanderung im Harz", "Gemeinsam wandern", now.plusDays(1));
+        create(2L, "Lesung", "Wir lesen aus neuen Büchern", now.plusDays(2));
+        create(3L, "Grillabend", "Danach eine kurze Wanderung", now.plusDays(3));
+        create(4L, "Wanderung am See", null, now.minusDays(1));
+    }
+
+    @Test
+    @DisplayName("Partly typed words should find the full word")
+    void search_withPartialWord_shouldMatchPrefix() {
+        assertEquals(List.of(1L, 3L), searchIndex.search("wanderu", now));
+        assertEquals(List.of(2L), searchIndex.search("lesu", now));
+        assertEquals(List.of(1L, 3L), searchIndex.search("Wanderungen", now));
+    }
+
+    @Test
+    @DisplayName("Typed umlaut spellings should match umlauts")
+    void search_withTypedUmlaut_shouldMatch() {
+        assertEquals(List.of(2L), searchIndex.search("Buecher", now));
+        assertEquals(List.of(2L), searchIndex.search("bü", now));
+    }
+
+    @Test
+    @DisplayName("Every token must match and title matches should rank first")
+    void search_shouldIntersectTokensAndRankTitlesFirst() {
+        assertEquals(List.of(1L), searchIndex.search("wanderung harz", now));
+        assertTrue(searchIndex.search("wanderung kino", now).isEmpty());
+        // Meeting 3 mentions it only in the description
+        assertEquals(List.of(1L, 3L), searchIndex.search("wanderung", now));
+    }
+
+    @Test
+    @DisplayName("Meetings that already started should not be returned")
+    void search_shouldSkipMeetingsBeforeCutoff() {
+        assertEquals(List.of(1L, 4L, 3L), searchIndex.search("wanderung", now.minusDays(2)));
+        assertEquals(List.of(1L, 3L), searchIndex.search("wanderung", now));
+    }
+
+    @Test
+    @DisplayName("Updates and deletions should replace the indexed text")
+    void onMeetingChanged_shouldReindex() {
+        MeetingSnapshot previous = snapshot(2L, "Lesung", null, now.plusDays(2));
+        searchIndex.onMeetingChanged(MeetingChangedEvent.updated(previous,
+                snapshot(2L, "Spieleabend", null, now.plusDays(2))));
+        searchIndex.onMeetingChanged(MeetingChangedEvent.deleted(snapshot(1L, "Wanderung im Harz", null,
+                now.plusDays(1))));
+
+        assertTrue(searchIndex.search("lesung", now).isEmpty());
+        assertEquals(List.of(2L), searchIndex.search("spiel", now));
+        assertEquals(List.of(3L), searchIndex.search("wanderung", now));
+    }
+
+    private void create(Long id, String title, String description, LocalDateTime dateTime) {
+        searchIndex.onMeetingChanged(MeetingChangedEvent.created(snapshot(id, title, description, dateTime)));
+    }
+
+    private static MeetingSnapshot snapshot(Long id, String title, String description, LocalDateTime dateTime) {
+        return new MeetingSnapshot(id, title, description, MeetingFormat.OFFLINE, "Berlin", dateTime, List.of());
+    }
+}
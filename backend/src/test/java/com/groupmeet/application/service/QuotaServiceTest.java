@@ -0,0 +1,127 @@
+package com.groupmeet.application.service;
+
+import com.groupmeet.application.fixture.UserFixture;
+import com.groupmeet.application.model.User;
+import com.groupmeet.application.repository.FriendshipRepository;
+import com.groupmeet.application.repository.MeetingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Quota Service Tests")
+class QuotaServiceTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private FriendshipRepository friendshipRepository;
+
+    @InjectMocks
+    private QuotaService quotaService;
+
+    private User user;
+    private LocalDateTime nextMonday;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(quotaService, "maxSize", 100L);
+        ReflectionTestUtils.setField(quotaService, "reconcileMinutes", 5L);
+        quotaService.createLedger();
+
+        user = UserFixture.createTestMaleUser("quota");
+        user.setId(1L);
+        nextMonday = LocalDateTime.now().plusWeeks(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                .withHour(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should load a counter once and keep it up to date in memory")
+    void getActiveJoinedMeetings_shouldQueryOnlyOnce() {
+        when(meetingRepository.countActiveMeetingsUserIsParticipantIn(eq(user), any(LocalDateTime.class)))
+                .thenReturn(2L);
+
+        assertEquals(2, quotaService.getActiveJoinedMeetings(user));
+        quotaService.membershipAdded(user.getId(), nextMonday);
+        assertEquals(3, quotaService.getActiveJoinedMeetings(user));
+        quotaService.membershipRemoved(user.getId(), LocalDateTime.now().minusDays(1));
+        assertEquals(3, quotaService.getActiveJoinedMeetings(user));
+
+        verify(meetingRepository, times(1)).countActiveMeetingsUserIsParticipantIn(eq(user), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Changes should only reach the ledger when their transaction commits")
+    void membershipAdded_insideTransaction_shouldApplyAfterCommit() {
+        when(meetingRepository.countActiveMeetingsUserIsParticipantIn(eq(user), any(LocalDateTime.class)))
+                .thenReturn(1L);
+        quotaService.getActiveJoinedMeetings(user);
+
+        TransactionSynchronizationManager.initSynchronization();
+        quotaService.membershipAdded(user.getId(), nextMonday);
+        assertEquals(1, quotaService.getActiveJoinedMeetings(user));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // A rolled back transaction never runs its afterCommit callbacks
+        assertEquals(1, quotaService.getActiveJoinedMeetings(user));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertEquals(2, quotaService.getActiveJoinedMeetings(user));
+    }
+
+    @Test
+    @DisplayName("Moving a meeting within its week should not count it twice")
+    void getOtherMeetingsInWeek_shouldExcludeTheMovedMeeting() {
+        when(meetingRepository.countByCreatorAndDateTimeBetween(eq(user), any(LocalDateTime.class),
+                any(LocalDateTime.class))).thenReturn(1L);
+
+        assertEquals(0, quotaService.getOtherMeetingsInWeek(user, nextMonday.plusDays(2), nextMonday));
+        assertEquals(1, quotaService.getOtherMeetingsInWeek(user, nextMonday.plusDays(2), nextMonday.plusWeeks(1)));
+        quotaService.meetingUnscheduled(user.getId(), nextMonday);
+        assertEquals(0, quotaService.getMeetingsInWeek(user, nextMonday.plusDays(3)));
+    }
+
+    @Test
+    @DisplayName("Should load missing counters of several users with one query")
+    void getActiveJoinedMeetings_forSeveralUsers_shouldLoadMissingTogether() {
+        User other = UserFixture.createTestFemaleUser("quota2");
+        other.setId(2L);
+        when(meetingRepository.countActiveMeetingsByParticipants(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.<Object[]>of(new Object[] { 1L, 3L }));
+
+        assertEquals(Map.of(1L, 3L, 2L, 0L), quotaService.getActiveJoinedMeetings(List.of(user, other)));
+        assertEquals(0, quotaService.getActiveJoinedMeetings(other));
+
+        verify(meetingRepository, times(1)).countActiveMeetingsByParticipants(anyCollection(),
+                any(LocalDateTime.class));
+        verify(meetingRepository, never()).countActiveMeetingsUserIsParticipantIn(any(), any());
+    }
+}
@@ -0,0 +1,84 @@
+package com.groupmeet.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Timing Wheel Tests")
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private TimingWheel<String> wheel;
+    private List<String> fired;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new TimingWheel<>(1000, 8, START);
+        fired = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("Timers should fire in order once their time is reached, across all levels")
+    void advanceTo_shouldFireDueTimersInOrder() {
+        wheel.schedule(START + 3_000, "level 0");
+        wheel.schedule(START + 20_000, "level 1");
+        wheel.schedule(START + 500_000, "level 2");
+        wheel.schedule(START + 86_400_000, "one day");
+
+        wheel.advanceTo(START + 2_000, fired::add);
+        assertEquals(List.of(), fired);
+        wheel.advanceTo(START + 3_000, fired::add);
+        assertEquals(List.of("level 0"), fired);
+        wheel.advanceTo(START + 19_999, fired::add);
+        assertEquals(List.of("level 0"), fired);
+        wheel.advanceTo(START + 20_000, fired::add);
+        wheel.advanceTo(START + 500_000, fired::add);
+        assertEquals(List.of("level 0", "level 1", "level 2"), fired);
+        assertEquals(1, wheel.size());
+
+        wheel.advanceTo(START + 86_399_000, fired::add);
+        assertEquals(3, fired.size());
+        wheel.advanceTo(START + 86_400_000, fired::add);
+        assertEquals(List.of("level 0", "level 1", "level 2", "one day"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("A large clock jump should fire everything that became due")
+    void advanceTo_afterLongPause_shouldFireAllDueTimers() {
+        for (int i = 1; i <= 100; i++) {
+            wheel.schedule(START + i * 7_919L, "timer " + i);
+        }
+
+        wheel.advanceTo(START + 50 * 7_919L, fired::add);
+        assertEquals(50, fired.size());
+        assertEquals("timer 50", fired.get(49));
+        assertEquals(50, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Cancelled timers should never fire")
+    void cancel_shouldRemoveTimer() {
+        TimingWheel.Timer<String> cancelled = wheel.schedule(START + 30_000, "cancelled");
+        wheel.schedule(START + 30_000, "kept");
+
+        wheel.cancel(cancelled);
+        wheel.advanceTo(START + 60_000, fired::add);
+
+        assertEquals(List.of("kept"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Timers that are already due should not be scheduled")
+    void schedule_inThePast_shouldReturnNull() {
+        assertNull(wheel.schedule(START - 5_000, "past"));
+        assertNotNull(wheel.schedule(START + 1_000, "next tick"));
+    }
+}